@@ -222,6 +222,11 @@ CREATE TABLE `history`
     `deleted`        TINYINT   NULL DEFAULT false
 );
 
+CREATE INDEX `idx_information_reader_period` ON `information` (`reader`, `deleted`, `requested`, `start_date`, `end_date`);
+CREATE INDEX `idx_management_information` ON `management` (`information_id`, `deleted`);
+CREATE INDEX `idx_history_member_date` ON `history` (`member_id`, `taking_date`);
+CREATE UNIQUE INDEX `uk_history_date_management` ON `history` (`taking_date`, `management_id`);
+
 SELECT *
 FROM member;
 
@@ -3,13 +3,20 @@ package com.americanstartup.pillme.admin.presentation.controller;
 import com.americanstartup.pillme.admin.application.response.SinginMemberResponse;
 import com.americanstartup.pillme.admin.application.service.AdminService;
 import com.americanstartup.pillme.admin.presentation.request.MemberUpdateRequest;
+import com.americanstartup.pillme.auth.annotation.Auth;
+import com.americanstartup.pillme.auth.domain.vo.AuthenticatedMember;
+import com.americanstartup.pillme.chat.application.response.ChatRoomSummaryRebuildResponse;
+import com.americanstartup.pillme.chat.application.service.ChatRoomSummaryRebuilder;
 import com.americanstartup.pillme.global.response.JSONResponse;
+import com.americanstartup.pillme.search.application.MedicationReindexService;
+import com.americanstartup.pillme.search.application.response.MedicationReindexResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +26,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminController {
     private final AdminService adminService;
+    private final MedicationReindexService medicationReindexService;
+    private final ChatRoomSummaryRebuilder chatRoomSummaryRebuilder;
 
     /**
      * 회원 통계 정보 조회
@@ -68,4 +77,23 @@ public class AdminController {
         Page<SinginMemberResponse> members = adminService.searchMembers(keyword, pageable);
         return ResponseEntity.ok(JSONResponse.onSuccess(members));
     }
+
+    /**
+     * 약물 목록 파일(CSV, JSON)로 약물 검색 인덱스 재색인
+     */
+    @PostMapping("/medications/reindex")
+    public ResponseEntity<JSONResponse<MedicationReindexResponse>> reindexMedications(
+            @RequestPart("file") MultipartFile file,
+            @Auth AuthenticatedMember member) {
+        return ResponseEntity.ok(JSONResponse.onSuccess(medicationReindexService.reindex(member, file)));
+    }
+
+    /**
+     * chat_messages로 채팅방 요약(마지막 메세지, 안 읽은 메세지 수) 중 없는 값만 채움
+     */
+    @PostMapping("/chat/summaries/rebuild")
+    public ResponseEntity<JSONResponse<ChatRoomSummaryRebuildResponse>> rebuildChatRoomSummaries(
+            @Auth AuthenticatedMember member) {
+        return ResponseEntity.ok(JSONResponse.onSuccess(chatRoomSummaryRebuilder.rebuild(member)));
+    }
 }
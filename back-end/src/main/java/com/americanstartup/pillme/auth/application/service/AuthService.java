@@ -19,6 +19,7 @@ import com.americanstartup.pillme.auth.presentation.request.CreateLocalMemberReq
 import com.americanstartup.pillme.auth.presentation.request.LoginRequest;
 import com.americanstartup.pillme.auth.presentation.request.SignUpRequest;
 import com.americanstartup.pillme.auth.util.JwtUtil;
+import com.americanstartup.pillme.auth.util.RequestMemberCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -113,11 +114,11 @@ public class AuthService {
      * 토큰 갱신
      */
     public TokenResponse refreshToken(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken)) {
+        var claims = jwtUtil.parseClaims(refreshToken);
+        if (claims == null) {
             throw new InvalidRefreshTokenException();
         }
 
-        var claims = jwtUtil.extractClaims(refreshToken);
         Long memberId = claims.get("memberId", Long.class);
         String role = claims.get("role", String.class);
 
@@ -137,11 +138,11 @@ public class AuthService {
             throw new DenylistedTokenException();
         }
 
-        if (!jwtUtil.validateToken(accessToken)) {
+        var claims = jwtUtil.parseClaims(accessToken);
+        if (claims == null) {
             throw new InvalidAccessTokenException();
         }
 
-        var claims = jwtUtil.extractClaims(accessToken);
         Long memberId = claims.get("memberId", Long.class);
 
         tokenService.deleteRefreshToken(memberId);
@@ -278,11 +279,16 @@ public class AuthService {
     }
 
     /**
-     * 회원 정보 조회
+     * 회원 정보 조회 (같은 요청 안에서는 한 번만 조회)
+     * 요청 캐시는 @Auth 회원 조회와 함께 사용하므로 탈퇴 여부는 캐시에서 꺼낸 뒤 확인
      */
     public Member findById(Long id) {
-        return memberRepository.findByIdAndDeletedFalse(id)
-                .orElseThrow(InvalidMemberInfoException::new);
+        Member member = RequestMemberCache.get(id, memberId -> memberRepository.findById(memberId)
+                .orElseThrow(InvalidMemberInfoException::new));
+        if (member.isDeleted()) {
+            throw new InvalidMemberInfoException();
+        }
+        return member;
     }
 
     /**
@@ -335,5 +341,6 @@ public class AuthService {
     @Transactional
     public void deleteLocalMember(Member member) {
         member.delete();
+        RequestMemberCache.evict(member.getId());
     }
 }
@@ -0,0 +1,151 @@
+package com.americanstartup.pillme.auth.application.service;
+
+import com.americanstartup.pillme.auth.util.TokenDigest;
+import com.americanstartup.pillme.global.cache.BloomFilter;
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/*
+ * Access Token 거부 목록 앞단의 서버 로컬 Bloom 필터
+ * - 거부 목록에 없는 토큰(대부분의 요청)은 Redis 조회 없이 바로 통과
+ * - 필터에 있을 수도 있는 토큰만 Redis에서 실제로 거부 목록에 있는지 확인
+ * - 로그아웃으로 토큰이 추가되면 Redis Pub/Sub으로 모든 서버의 필터에 추가
+ * - 서버 시작 시와 주기적으로 Redis의 거부 목록으로 필터를 다시 구성 (만료된 토큰 제거, 누락된 메시지 보정)
+ * - 최초 구성(이전 형식 키 변환 포함)은 요청을 받기 전 빈 초기화 단계에서 수행하고,
+ *   구성되기 전에는 모든 토큰을 Redis에서 확인 (이전 형식 키도 함께 확인)
+ * */
+@Slf4j
+@Component
+public class TokenDenylistFilter {
+    static final String DENYLIST_PREFIX = "DL:";
+    private static final String CHANNEL_NAME = "tokenDenylist";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter current;
+    // 다시 구성하는 동안 추가된 토큰도 새 필터에 반영하기 위해 사용
+    private BloomFilter next;
+
+    public TokenDenylistFilter(
+            RedisTemplate<String, String> redisTemplate,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.denylist.false-positive-probability:0.01}") double falsePositiveProbability
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        // 다른 서버에서 거부 목록에 추가된 토큰 반영
+        cacheInvalidationBus.register(CHANNEL_NAME, digest -> putLocal(TokenDigest.decode(digest)));
+    }
+
+    /**
+     * 필터 구성 여부 (구성되기 전에는 이전 형식의 거부 목록 키도 확인해야 함)
+     */
+    public boolean isBuilt() {
+        return current != null;
+    }
+
+    /**
+     * 거부 목록에 있을 수도 있는지 확인 (필터가 아직 구성되지 않았다면 항상 true)
+     */
+    public boolean mightContain(byte[] hash) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(hash);
+    }
+
+    /**
+     * 모든 서버의 필터에 토큰 추가
+     */
+    public void put(byte[] hash) {
+        putLocal(hash);
+        cacheInvalidationBus.publish(CHANNEL_NAME, TokenDigest.encode(hash));
+    }
+
+    private synchronized void putLocal(byte[] hash) {
+        if (current != null) {
+            current.put(hash);
+        }
+        if (next != null) {
+            next.put(hash);
+        }
+    }
+
+    // 서버가 요청을 받기 전에 이전 형식 키를 변환하고 필터 구성
+    @PostConstruct
+    public void initialize() {
+        rebuild();
+    }
+
+    // Redis의 거부 목록으로 필터 구성
+    @Scheduled(initialDelayString = "${jwt.denylist.rebuild-interval-ms:600000}",
+            fixedDelayString = "${jwt.denylist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        synchronized (this) {
+            next = filter;
+        }
+
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(DENYLIST_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            while (keys.hasNext()) {
+                String digest = toDigest(keys.next());
+                if (digest != null) {
+                    filter.put(TokenDigest.decode(digest));
+                    count++;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 구성에 실패한 경우 기존 필터를 그대로 사용 (최초 구성 전이라면 모든 토큰을 Redis에서 확인)
+            log.error("Failed to rebuild token denylist filter: {}", e.getMessage());
+            synchronized (this) {
+                next = null;
+            }
+            return;
+        }
+
+        synchronized (this) {
+            current = filter;
+            next = null;
+        }
+        log.info("Token denylist filter built with {} tokens", count);
+    }
+
+    /*
+     * 거부 목록 키에서 토큰 해시 추출
+     * 토큰 원문을 키로 사용하던 이전 형식의 키는 해시 키로 옮긴 뒤 삭제 (남은 만료 시간 유지)
+     * */
+    private String toDigest(String key) {
+        String value = key.substring(DENYLIST_PREFIX.length());
+        if (!value.contains(".")) {
+            return value;
+        }
+
+        String digest = TokenDigest.digest(value);
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (ttl == null || ttl <= 0) {
+            redisTemplate.delete(key);
+            return null;
+        }
+
+        redisTemplate.opsForValue().set(DENYLIST_PREFIX + digest, "true", ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.delete(key);
+        return digest;
+    }
+}
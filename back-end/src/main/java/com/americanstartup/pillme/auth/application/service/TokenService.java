@@ -1,5 +1,7 @@
 package com.americanstartup.pillme.auth.application.service;
 
+import com.americanstartup.pillme.auth.util.JwtVerifier;
+import com.americanstartup.pillme.auth.util.TokenDigest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -11,8 +13,9 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class TokenService {
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtVerifier jwtVerifier;
+    private final TokenDenylistFilter tokenDenylistFilter;
     private static final String REFRESH_TOKEN_PREFIX = "RT:";
-    private static final String DENYLIST_PREFIX = "DL:";
     private static final String PASSWORD_RESET_PREFIX = "PW_RESET:";
     private static final String TEMP_AUTH_PREFIX = "TEMP_AUTH:";
 
@@ -41,19 +44,33 @@ public class TokenService {
     }
 
     /**
-     * Access Token 거부 목록 추가
+     * Access Token 거부 목록 추가 (토큰 원문 대신 고정 길이 해시를 키로 사용)
      */
     public void denylistToken(String token, long expirationTime) {
-        String key = DENYLIST_PREFIX + token;
+        byte[] hash = TokenDigest.hash(token);
+        String key = TokenDenylistFilter.DENYLIST_PREFIX + TokenDigest.encode(hash);
         redisTemplate.opsForValue().set(key, "true", expirationTime, TimeUnit.MILLISECONDS);
+        tokenDenylistFilter.put(hash);
+        // 검증된 토큰 캐시에서도 제거
+        jwtVerifier.evict(token);
     }
 
     /**
-     * Access Token 거부 목록 확인
+     * Access Token 거부 목록 확인 (Bloom 필터에 있을 수도 있는 토큰만 Redis에서 확인)
+     * 필터가 구성되기 전에는 토큰 원문을 키로 사용하던 이전 형식의 키도 확인
      */
     public boolean isTokenDenylisted(String token) {
-        String key = DENYLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        byte[] hash = TokenDigest.hash(token);
+        if (!tokenDenylistFilter.mightContain(hash)) {
+            return false;
+        }
+
+        String key = TokenDenylistFilter.DENYLIST_PREFIX + TokenDigest.encode(hash);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return true;
+        }
+        return !tokenDenylistFilter.isBuilt()
+                && Boolean.TRUE.equals(redisTemplate.hasKey(TokenDenylistFilter.DENYLIST_PREFIX + token));
     }
 
     /**
@@ -0,0 +1,11 @@
+package com.americanstartup.pillme.auth.domain.vo;
+
+/*
+ * JWT 클레임으로 만든 인증된 회원 정보
+ * 회원 id와 권한만 필요한 요청에서 @Auth AuthenticatedMember로 받으면 회원 조회 쿼리가 실행되지 않음
+ * */
+public record AuthenticatedMember(
+        Long id,
+        Role role
+) {
+}
@@ -0,0 +1,11 @@
+package com.americanstartup.pillme.auth.domain.vo;
+
+public record VerifiedToken(
+        Long memberId,
+        String role,
+        long expiresAt
+) {
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
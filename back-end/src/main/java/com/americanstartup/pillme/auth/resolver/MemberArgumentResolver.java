@@ -1,9 +1,12 @@
 package com.americanstartup.pillme.auth.resolver;
 
 import com.americanstartup.pillme.auth.domain.entity.Member;
+import com.americanstartup.pillme.auth.domain.vo.AuthenticatedMember;
+import com.americanstartup.pillme.auth.domain.vo.Role;
 import com.americanstartup.pillme.auth.infrastructure.repository.MemberRepository;
 import com.americanstartup.pillme.auth.annotation.Auth;
 import com.americanstartup.pillme.auth.application.exception.security.InvalidMemberInfoException;
+import com.americanstartup.pillme.auth.util.RequestMemberCache;
 import com.americanstartup.pillme.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
@@ -14,16 +17,24 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/*
+ * @Auth 파라미터 처리
+ * - AuthenticatedMember: JWT 클레임(회원 id, 권한)으로 생성 (DB 조회 없음)
+ * - Member: 요청 단위 회원 캐시(RequestMemberCache)로 조회하여 존재하지 않는 회원은 여기서 거절
+ *   (같은 요청에서 AuthService.findById로 다시 조회하면 캐시된 회원을 사용하므로 조회는 요청당 한 번)
+ * */
 @RequiredArgsConstructor
 @Component
 public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String ROLE_PREFIX = "ROLE_";
 
     private final MemberRepository memberRepository;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.getParameterAnnotation(Auth.class) != null
-                && parameter.getParameterType().equals(Member.class);
+                && (parameter.getParameterType().equals(Member.class)
+                || parameter.getParameterType().equals(AuthenticatedMember.class));
     }
 
     @Override
@@ -33,7 +44,21 @@ public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
                                   WebDataBinderFactory binderFactory) {
 
         Long memberId = SecurityUtil.extractCurrentMemberId();
-        return memberRepository.findById(memberId)
-                .orElseThrow(InvalidMemberInfoException::new);
+
+        if (parameter.getParameterType().equals(AuthenticatedMember.class)) {
+            return new AuthenticatedMember(memberId, extractRole());
+        }
+
+        return RequestMemberCache.get(memberId, id -> memberRepository.findById(id)
+                .orElseThrow(InvalidMemberInfoException::new));
+    }
+
+    private Role extractRole() {
+        String authority = SecurityUtil.extractCurrentMemberRole();
+        try {
+            return Role.valueOf(authority.substring(ROLE_PREFIX.length()));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidMemberInfoException();
+        }
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@ import java.util.Date;
 public class JwtUtil {
 
     private final Key key;
+    private final JwtParser parser;
     private final long accessTokenValidityTime;
     private final long refreshTokenValidityTime;
 
@@ -23,6 +24,8 @@ public class JwtUtil {
             @Value("${JWT_REFRESH_VALIDITY}") long refreshTokenValidityTime
     ) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        // 파서는 불변 객체로 스레드에 안전하므로 한 번만 생성하여 재사용
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenValidityTime = accessTokenValidityTime;
         this.refreshTokenValidityTime = refreshTokenValidityTime;
     }
@@ -59,36 +62,38 @@ public class JwtUtil {
      * 토큰 검증
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     /**
      * 토큰에서 클레임 추출
      */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰 검증 및 클레임 추출 (서명 검증 한 번으로 처리, 유효하지 않은 토큰인 경우 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return extractClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
      * 토큰에서 memberId 추출
      */
     public Long getUserIdFromToken(String token) {
-        if (!validateToken(token)) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
             return null;
         }
 
         try {
-            Claims claims = extractClaims(token);
             return claims.get("memberId", Long.class);
         } catch (Exception e) {
             log.error("Failed to extract userId from token: {}", e.getMessage());
@@ -0,0 +1,105 @@
+package com.americanstartup.pillme.auth.util;
+
+import com.americanstartup.pillme.auth.domain.vo.VerifiedToken;
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 검증된 Access Token 캐시
+ * - 같은 토큰으로 반복되는 요청마다 서명을 다시 검증하지 않도록 토큰 해시별로 검증 결과(회원 id, 권한, 만료 시간)를 보관
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰 만료 시간이 지나면 캐시에서도 만료
+ * - 토큰이 거부 목록에 추가되면 evict를 호출하여 모든 서버의 로컬 캐시에서 제거
+ * */
+@Component
+public class JwtVerifier {
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    private final JwtUtil jwtUtil;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtVerifier(
+            JwtUtil jwtUtil,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+
+        // 다른 서버에서 거부 목록에 추가된 토큰 제거
+        cacheInvalidationBus.register(CACHE_NAME, verifiedTokens::invalidate);
+    }
+
+    /**
+     * 토큰 검증 (캐시에 없는 경우에만 서명 검증)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = TokenDigest.digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            return Optional.of(cached);
+        }
+
+        Claims claims = jwtUtil.parseClaims(token);
+        if (claims == null || claims.getExpiration() == null) {
+            return Optional.empty();
+        }
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.get("memberId", Long.class),
+                claims.get("role", String.class),
+                claims.getExpiration().getTime()
+        );
+        verifiedTokens.put(digest, verified);
+        return Optional.of(verified);
+    }
+
+    /**
+     * 모든 서버의 로컬 캐시에서 토큰 제거
+     */
+    public void evict(String token) {
+        String digest = TokenDigest.digest(token);
+        verifiedTokens.invalidate(digest);
+        cacheInvalidationBus.publish(CACHE_NAME, digest);
+    }
+
+    // 토큰 만료 시간까지만 캐시에 보관
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = value.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
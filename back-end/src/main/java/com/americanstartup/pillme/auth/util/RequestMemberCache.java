@@ -0,0 +1,51 @@
+package com.americanstartup.pillme.auth.util;
+
+import com.americanstartup.pillme.auth.domain.entity.Member;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/*
+ * 요청 단위 회원 캐시
+ * - 한 요청 안에서 같은 id로 회원을 여러 번 조회하는 경우 첫 번째 조회 결과를 재사용
+ * - 요청 속성에 보관하므로 요청이 끝나면 함께 사라짐
+ * - 스케줄러, WebSocket 메시지 처리 등 HTTP 요청이 아닌 경우에는 캐싱하지 않고 바로 조회
+ * */
+public class RequestMemberCache {
+    private static final String ATTRIBUTE_NAME = RequestMemberCache.class.getName();
+
+    public static Member get(Long memberId, Function<Long, Member> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.apply(memberId);
+        }
+
+        Map<Long, Member> members = getMembers(attributes);
+        Member member = members.get(memberId);
+        if (member == null) {
+            member = loader.apply(memberId);
+            members.put(memberId, member);
+        }
+        return member;
+    }
+
+    // 회원 정보가 변경/삭제된 경우 요청 캐시에서 제거
+    public static void evict(Long memberId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            getMembers(attributes).remove(memberId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Member> getMembers(RequestAttributes attributes) {
+        Object members = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (members == null) {
+            members = new HashMap<Long, Member>();
+            attributes.setAttribute(ATTRIBUTE_NAME, members, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Long, Member>) members;
+    }
+}
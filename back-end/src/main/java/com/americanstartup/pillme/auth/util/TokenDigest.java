@@ -0,0 +1,34 @@
+package com.americanstartup.pillme.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class TokenDigest {
+    /**
+     * 토큰의 SHA-256 해시
+     */
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰의 SHA-256 해시 문자열 (Base64 URL, 43자 고정 길이)
+     */
+    public static String digest(String token) {
+        return encode(hash(token));
+    }
+
+    public static String encode(byte[] hash) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    public static byte[] decode(String digest) {
+        return Base64.getUrlDecoder().decode(digest);
+    }
+}
@@ -0,0 +1,10 @@
+package com.americanstartup.pillme.chat.application.exception;
+
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.exception.CommonException;
+
+public class ChatSummaryRebuildException extends CommonException {
+    public ChatSummaryRebuildException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
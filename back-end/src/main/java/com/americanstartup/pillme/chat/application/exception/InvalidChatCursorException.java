@@ -0,0 +1,10 @@
+package com.americanstartup.pillme.chat.application.exception;
+
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.exception.CommonException;
+
+public class InvalidChatCursorException extends CommonException {
+    public InvalidChatCursorException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
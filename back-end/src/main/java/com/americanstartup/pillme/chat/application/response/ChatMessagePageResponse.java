@@ -0,0 +1,17 @@
+package com.americanstartup.pillme.chat.application.response;
+
+import java.util.List;
+
+/*
+ * 채팅 메세지 페이지 (메세지는 보낸 순서대로 정렬)
+ * - oldestCursor: 이전 메세지를 조회할 때 before로 전달
+ * - newestCursor: 이후 메세지를 조회할 때 after로 전달
+ * - hasMore: 조회한 방향으로 메세지가 더 있는지
+ * */
+public record ChatMessagePageResponse(
+        List<ChatMessageResponse> messages,
+        String oldestCursor,
+        String newestCursor,
+        boolean hasMore
+) {
+}
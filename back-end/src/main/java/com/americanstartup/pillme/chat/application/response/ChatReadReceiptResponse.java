@@ -0,0 +1,8 @@
+package com.americanstartup.pillme.chat.application.response;
+
+/*
+ * 읽음 확인 (상대방의 채팅 리스트 토픽으로 전송)
+ * - readerId: 메세지를 읽은 회원
+ * - readCount: 이번에 읽음 처리된 메세지 수
+ * */
+public record ChatReadReceiptResponse(Long chatRoomId, Long readerId, long readCount, Long readAt) { }
@@ -0,0 +1,9 @@
+package com.americanstartup.pillme.chat.application.response;
+
+public record ChatRoomSummaryRebuildResponse(
+        long chatRooms,
+        long filledFields,
+        boolean completed,
+        long elapsedMillis
+) {
+}
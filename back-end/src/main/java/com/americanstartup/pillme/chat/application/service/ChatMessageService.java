@@ -1,13 +1,30 @@
 package com.americanstartup.pillme.chat.application.service;
 
+import com.americanstartup.pillme.chat.application.exception.ChatRoomNotFoundException;
+import com.americanstartup.pillme.chat.application.exception.InvalidChatCursorException;
+import com.americanstartup.pillme.chat.application.response.ChatMessagePageResponse;
 import com.americanstartup.pillme.chat.application.response.ChatMessageResponse;
+import com.americanstartup.pillme.chat.application.response.ChatReadReceiptResponse;
 import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import com.americanstartup.pillme.chat.domain.item.ChatRoomStateItem;
+import com.americanstartup.pillme.chat.domain.vo.ChatMessageCursor;
 import com.americanstartup.pillme.chat.infrastructure.repository.ChatMessageRepository;
+import com.americanstartup.pillme.chat.infrastructure.repository.ChatRoomRepository;
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
@@ -15,9 +32,16 @@ import java.util.List;
 public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatRedisService chatRedisService;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomStateService chatRoomStateService;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     public List<ChatMessageResponse> getChatMessages(Long chatRoomId){
+        chatMessageWriter.flush(chatRoomId);  //저장 대기 중인 메세지도 조회되도록 먼저 저장
         List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomIdOrderByTimestampAsc(chatRoomId);
         return chatMessages.
                 stream()
@@ -25,28 +49,113 @@ public class ChatMessageService {
                 .toList();
     }
 
-    public ChatMessage saveMessage(ChatMessage chatMessage){
-        Long chatRoomId = chatMessage.getChatRoomId();
-        Long receiverId = chatMessage.getReceiverId();
+    /*
+     * 채팅방 메세지 페이지 조회
+     * after가 있으면 그 이후 메세지, 없으면 before 이전 메세지 (before도 없으면 가장 최근 메세지)
+     * 한 개를 더 조회하여 다음 페이지가 있는지 확인
+     * */
+    public ChatMessagePageResponse getChatMessagePage(Long chatRoomId, Long memberId, String before, String after, int size){
+        validateChatRoomMember(chatRoomId, memberId);
+        chatMessageWriter.flush(chatRoomId);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
 
+        List<ChatMessage> chatMessages;
+        if(after != null){
+            chatMessages = new ArrayList<>(chatMessageRepository.findAfter(chatRoomId, parseCursor(after), limit + 1));
+        } else {
+            ChatMessageCursor cursor = before != null ? parseCursor(before) : null;
+            chatMessages = new ArrayList<>(chatMessageRepository.findBefore(chatRoomId, cursor, limit + 1));
+        }
 
-        //채팅 상대가 채팅방에 있는지 확인
-        Boolean isOnline = chatRedisService.checkMember(chatRoomId, receiverId);
-        if(Boolean.TRUE.equals(isOnline)){
-            chatMessage.markAsRead();
+        boolean hasMore = chatMessages.size() > limit;
+        if(hasMore){
+            chatMessages.remove(limit);
+        }
+        if(after == null){
+            Collections.reverse(chatMessages);  //최신순으로 조회했으므로 보낸 순서로 정렬
         }
 
-        return chatMessageRepository.save(chatMessage);
+        if(chatMessages.isEmpty()){
+            return new ChatMessagePageResponse(List.of(), null, null, false);
+        }
+        return new ChatMessagePageResponse(
+                chatMessages.stream().map(ChatMessageResponse::from).toList(),
+                encodeCursor(chatMessages.get(0)),
+                encodeCursor(chatMessages.get(chatMessages.size() - 1)),
+                hasMore
+        );
     }
 
-    public void markMessageAsRead(Long chatRoomId, Long userId){
-        chatRedisService.enterChatRoom(chatRoomId, userId); //사용자 채팅방 입장 처리
-        List<ChatMessage> unreadMessages = chatMessageRepository.findByChatRoomIdAndReceiverIdAndReadFalse(chatRoomId, userId);
-        if (!unreadMessages.isEmpty()) {
-            for (ChatMessage message : unreadMessages) {
-                message.markAsRead();
+    //채팅방에 참여한 회원인지 확인 (다른 회원의 채팅방은 존재하지 않는 채팅방으로 응답)
+    public void validateChatRoomMember(Long chatRoomId, Long memberId){
+        if(!chatRoomRepository.existsByIdAndMemberId(chatRoomId, memberId)){
+            throw new ChatRoomNotFoundException(ErrorCode.EMPTY_CHATROOM_ID);
+        }
+    }
+
+    //채팅방의 모든 메세지를 JSON 배열로 출력 (메세지를 한 번에 메모리에 올리지 않고 하나씩 출력)
+    public void exportChatMessages(Long chatRoomId, OutputStream outputStream) throws IOException {
+        chatMessageWriter.flush(chatRoomId);
+        try (Stream<ChatMessage> chatMessages = chatMessageRepository.streamByChatRoomId(chatRoomId);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);  //응답 스트림은 서블릿 컨테이너가 닫음
+            generator.writeStartArray();
+            for (ChatMessage chatMessage : (Iterable<ChatMessage>) chatMessages::iterator) {
+                generator.writeObject(ChatMessageResponse.from(chatMessage));
             }
-            chatMessageRepository.saveAll(unreadMessages);
+            generator.writeEndArray();
+        }
+    }
+
+    private ChatMessageCursor parseCursor(String cursor){
+        try {
+            return ChatMessageCursor.parse(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidChatCursorException(ErrorCode.INVALID_CHAT_CURSOR);
+        }
+    }
+
+    private String encodeCursor(ChatMessage chatMessage){
+        try {
+            return ChatMessageCursor.from(chatMessage).encode();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidChatCursorException(ErrorCode.INVALID_CHAT_CURSOR);
+        }
+    }
+
+    //채팅 상대 접속 여부 확인과 채팅방 상태 갱신은 Redis에서 처리하고, 메세지는 지연 저장
+    public ChatRoomStateItem saveMessage(ChatMessage chatMessage){
+        chatMessage.assignId();
+        chatMessage.assignTimestamp();
+
+        ChatRoomStateItem state = chatRoomStateService.record(chatMessage);
+        if(state.read()){
+            chatMessage.markAsRead();
+        }
+
+        chatMessageWriter.write(chatMessage);
+        return state;
+    }
+
+    /*
+     * 채팅방 입장 시 본인에게 온 안 읽은 메세지를 한 번에 읽음 처리
+     * 채팅방 토픽을 구독한 이후 전송된 메세지는 바로 읽음 처리되므로, 저장 대기 중인 메세지만 먼저 저장한 뒤 updateMany
+     * 읽음 처리된 메세지가 있으면 상대방의 채팅 리스트 토픽으로 읽음 확인 전송
+     * */
+    public long markMessageAsRead(Long chatRoomId, Long userId){
+        chatMessageWriter.flush(chatRoomId);
+
+        long readCount = chatMessageRepository.markAllAsRead(chatRoomId, userId);
+        chatRoomStateService.resetUnreadCount(chatRoomId, userId);
+
+        if(readCount > 0){
+            chatRoomRepository.findById(chatRoomId)
+                    .map(chatRoom -> Objects.equals(chatRoom.getSendUser().getId(), userId)
+                            ? chatRoom.getReceiveUser().getId()
+                            : chatRoom.getSendUser().getId())
+                    .ifPresent(senderId -> messagingTemplate.convertAndSend("/subscribe/chat/list/" + senderId,
+                            new ChatReadReceiptResponse(chatRoomId, userId, readCount, System.currentTimeMillis())));
         }
+        return readCount;
     }
 }
@@ -0,0 +1,279 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 채팅 메세지 지연 저장 (write-behind)
+ * - 메세지는 큐에 넣고 바로 반환하여 STOMP 인바운드 스레드가 MongoDB 저장을 기다리지 않도록 함
+ * - 저장 스레드가 flush-interval-ms 동안 또는 batch-size개가 모일 때까지 모아서 한 번에 insert
+ * - 큐가 가득 찬 경우 호출한 스레드에서 바로 저장하여 생산 속도를 늦춤 (chat.write.overflow 메트릭)
+ * - 저장 전에 메세지를 조회해야 하는 경우 flush(채팅방 id)를 호출하여 해당 채팅방의 메세지만 먼저 저장
+ *   (저장 대기 중인 메세지가 없는 채팅방은 바로 반환하여 다른 채팅방의 저장을 기다리지 않음)
+ * */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+    // 큐가 비어 있을 때 종료 여부를 확인하는 주기
+    private static final long IDLE_POLL_MILLIS = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long flushTimeoutNanos;
+
+    // 저장은 한 스레드씩만 수행하고, flush 호출 시 저장 스레드가 꺼내 간 메세지가 저장될 때까지 대기
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Condition processed = writeLock.newCondition();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong processedCount = new AtomicLong();
+
+    // 채팅방별 저장 대기 중인 메세지 수 (모두 저장되면 제거)
+    private final Map<Long, RoomProgress> roomProgress = new ConcurrentHashMap<>();
+
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer insertTimer;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ChatMessageWriter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chat.write-behind.capacity:10000}") int capacity,
+            @Value("${chat.write-behind.batch-size:500}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-ms:20}") long flushIntervalMillis,
+            @Value("${chat.write-behind.flush-timeout-ms:2000}") long flushTimeoutMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(flushTimeoutMillis);
+
+        // 저장 대기 중인 메세지 수, 큐가 가득 차 직접 저장한 수, 저장에 실패한 수, 묶음 크기, insert 시간
+        meterRegistry.gauge("chat.write.queue.size", queue, BlockingQueue::size);
+        meterRegistry.gauge("chat.write.queue.remaining", queue, BlockingQueue::remainingCapacity);
+        this.overflowCounter = meterRegistry.counter("chat.write.overflow");
+        this.failedCounter = meterRegistry.counter("chat.write.failed");
+        this.batchSizeSummary = meterRegistry.summary("chat.write.batch.size");
+        this.insertTimer = meterRegistry.timer("chat.write.insert");
+
+        this.flusher = new Thread(this::run, "chat-message-writer");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    // 메세지 저장 요청 (큐가 가득 찬 경우에만 바로 저장)
+    public void write(ChatMessage message) {
+        enqueuedCount.incrementAndGet();
+        roomProgress.compute(message.getChatRoomId(), (chatRoomId, progress) -> {
+            RoomProgress current = progress != null ? progress : new RoomProgress();
+            current.enqueued++;
+            return current;
+        });
+        if (queue.offer(message)) {
+            return;
+        }
+
+        overflowCounter.increment();
+        writeLock.lock();
+        try {
+            persist(List.of(message));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * 호출 시점까지 요청된 메세지를 모두 저장
+     * 저장 스레드가 이미 꺼내 간 묶음은 저장이 끝날 때까지 최대 flush-timeout-ms 동안 대기
+     * */
+    public void flush() {
+        writeLock.lock();
+        try {
+            List<ChatMessage> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                persist(batch);
+                batch.clear();
+            }
+
+            // 큐를 비운 뒤에는 저장 스레드가 꺼내 간 묶음이 먼저 저장되므로 요청된 수만큼 처리될 때까지 대기
+            long target = enqueuedCount.get();
+            long remaining = flushTimeoutNanos;
+            while (processedCount.get() < target && remaining > 0) {
+                remaining = processed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * 호출 시점까지 요청된 채팅방의 메세지를 모두 저장
+     * 큐에 남은 해당 채팅방 메세지만 꺼내 저장하고, 저장 스레드가 이미 꺼내 간 묶음에 포함된 경우
+     * 그 묶음이 저장될 때까지 최대 flush-timeout-ms 동안 대기
+     * */
+    public void flush(Long chatRoomId) {
+        RoomProgress progress = roomProgress.get(chatRoomId);
+        if (progress == null) {
+            return;
+        }
+        long target = progress.enqueued;
+
+        writeLock.lock();
+        try {
+            List<ChatMessage> batch = new ArrayList<>();
+            Iterator<ChatMessage> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                ChatMessage message = iterator.next();
+                if (chatRoomId.equals(message.getChatRoomId())) {
+                    iterator.remove();
+                    batch.add(message);
+                }
+            }
+            if (!batch.isEmpty()) {
+                persist(batch);
+            }
+
+            // 모두 저장되어 제거된 경우(새 메세지로 다시 생성된 경우 포함) 대기하지 않음
+            long remaining = flushTimeoutNanos;
+            while (roomProgress.get(chatRoomId) == progress && progress.persisted < target && remaining > 0) {
+                remaining = processed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 서버 종료 시 남은 메세지 저장
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.NANOSECONDS.toMillis(flushTimeoutNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void run() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (batch.isEmpty()) {
+                continue;
+            }
+            writeLock.lock();
+            try {
+                persist(batch);
+            } finally {
+                writeLock.unlock();
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 메세지를 꺼낸 시점부터 flush-interval-ms 동안 또는 batch-size개가 될 때까지 메세지를 모음
+    private void collect(List<ChatMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+
+            ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /*
+     * 묶음 단위로 insert (writeLock을 획득한 상태에서 호출)
+     * 실패한 경우 메세지마다 다시 저장 (id를 미리 지정하므로 일부가 이미 저장되었더라도 중복되지 않음)
+     * */
+    private void persist(List<ChatMessage> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            insertTimer.record(() -> mongoTemplate.insert(batch, ChatMessage.class));
+        } catch (RuntimeException e) {
+            log.warn("Failed to insert chat messages: size={}, {}", batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        } finally {
+            processedCount.addAndGet(batch.size());
+            batch.forEach(this::markPersisted);
+            processed.signalAll();
+        }
+    }
+
+    private void markPersisted(ChatMessage message) {
+        roomProgress.computeIfPresent(message.getChatRoomId(), (chatRoomId, progress) -> {
+            progress.persisted++;
+            return progress.persisted >= progress.enqueued ? null : progress;
+        });
+    }
+
+    private void saveOne(ChatMessage message) {
+        try {
+            mongoTemplate.save(message);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Failed to save chat message: id={}, chatRoomId={}, {}",
+                    message.getId(), message.getChatRoomId(), e.getMessage());
+        }
+    }
+
+    // 채팅방별 저장 요청 수와 저장 완료 수 (ConcurrentHashMap의 compute 안에서만 변경)
+    private static final class RoomProgress {
+        private volatile long enqueued;
+        private volatile long persisted;
+    }
+}
@@ -0,0 +1,112 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 채팅방 접속 여부 (Redis Hash, chat_presence:{채팅방 id}:{회원 id})
+ * - 필드는 STOMP 세션 id, 값은 만료 시각 (epoch millis)
+ * - 세션이 살아 있는 동안 주기적으로 만료 시각을 연장하고, 연장되지 않은 세션은 접속하지 않은 것으로 판단
+ * - 만료 시각이 지나지 않은 세션이 하나라도 있으면 접속 중
+ * - 서버가 비정상 종료되어도 키 자체에 TTL을 설정하여 남지 않도록 함
+ * */
+@Service
+public class ChatPresenceService {
+    static final String PRESENCE_PREFIX = "chat_presence:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+
+    public ChatPresenceService(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${chat.presence.ttl-ms:30000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 세션의 채팅방 접속 등록
+    public void enter(Long chatRoomId, Long memberId, String sessionId) {
+        refresh(List.of(new PresenceEntry(chatRoomId, memberId, sessionId)));
+    }
+
+    // 살아 있는 세션들의 만료 시각 연장 (파이프라인으로 한 번에 처리)
+    public void refresh(Collection<PresenceEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String expiresAt = String.valueOf(System.currentTimeMillis() + ttlMillis);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                for (PresenceEntry entry : entries) {
+                    String key = presenceKey(entry.chatRoomId(), entry.memberId());
+                    redis.opsForHash().put(key, entry.sessionId(), expiresAt);
+                    redis.expire(key, ttlMillis, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+    }
+
+    // 세션의 채팅방 접속 해제
+    public void leave(Long chatRoomId, Long memberId, String sessionId) {
+        redisTemplate.opsForHash().delete(presenceKey(chatRoomId, memberId), sessionId);
+    }
+
+    // 회원의 모든 세션 접속 해제 (채팅방 나가기)
+    public void leaveAll(Long chatRoomId, Long memberId) {
+        redisTemplate.delete(presenceKey(chatRoomId, memberId));
+    }
+
+    public boolean isPresent(Long chatRoomId, Long memberId) {
+        return findPresentMembers(chatRoomId, List.of(memberId)).contains(memberId);
+    }
+
+    // 여러 회원 중 채팅방에 접속 중인 회원 (파이프라인으로 Redis 왕복 한 번)
+    public Set<Long> findPresentMembers(Long chatRoomId, Collection<Long> memberIds) {
+        List<Long> ids = new ArrayList<>(memberIds);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+                ids.forEach(memberId -> hash.values(presenceKey(chatRoomId, memberId)));
+                return null;
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        Set<Long> present = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            boolean alive = ((List<?>) results.get(i)).stream()
+                    .anyMatch(expiresAt -> Long.parseLong(expiresAt.toString()) > now);
+            if (alive) {
+                present.add(ids.get(i));
+            }
+        }
+        return present;
+    }
+
+    static String presenceKey(Long chatRoomId, Long memberId) {
+        return PRESENCE_PREFIX + chatRoomId + ":" + memberId;
+    }
+
+    public record PresenceEntry(Long chatRoomId, Long memberId, String sessionId) {
+    }
+}
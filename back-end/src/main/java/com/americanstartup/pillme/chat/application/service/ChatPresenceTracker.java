@@ -0,0 +1,142 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import com.americanstartup.pillme.chat.application.service.ChatPresenceService.PresenceEntry;
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * STOMP 세션 이벤트로 채팅방 접속 여부 관리
+ * - 채팅방 토픽(/subscribe/chat.{채팅방 id}) 구독 시 접속, 구독 해제/연결 종료 시 접속 해제
+ * - 이 서버에 연결된 세션의 구독 정보를 보관하고, 주기적으로 접속 만료 시각을 연장 (하트비트)
+ * - 앱 강제 종료 등으로 연결 종료 이벤트를 받지 못해도 하트비트가 끊기면 만료되어 접속하지 않은 것으로 판단
+ * - 채팅방 나가기는 모든 서버에 전파하여 각 서버가 보관 중인 구독을 제거 (하트비트로 접속이 다시 등록되지 않도록 함)
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceTracker {
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/subscribe/chat\\.(\\d+)$");
+    private static final String CHANNEL_NAME = "chatPresenceLeave";
+    private static final String DELIMITER = ":";
+
+    private final ChatPresenceService chatPresenceService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 세션 id -> 세션의 채팅방 구독
+    private final Map<String, SessionSubscriptions> sessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.register(CHANNEL_NAME, value -> {
+            int index = value.indexOf(DELIMITER);
+            dropRoom(Long.valueOf(value.substring(0, index)), Long.valueOf(value.substring(index + 1)));
+        });
+    }
+
+    // 회원의 모든 세션의 채팅방 접속 해제 후 모든 서버에 전파 (채팅방 나가기)
+    public void leaveAll(Long chatRoomId, Long memberId) {
+        chatPresenceService.leaveAll(chatRoomId, memberId);
+        cacheInvalidationBus.publish(CHANNEL_NAME, chatRoomId + DELIMITER + memberId);
+    }
+
+    /*
+     * 이 서버에 보관 중인 회원의 채팅방 구독 제거
+     * 전파되기 전에 하트비트가 접속을 다시 등록했을 수 있으므로 제거한 세션의 접속도 해제
+     * */
+    void dropRoom(Long chatRoomId, Long memberId) {
+        sessions.forEach((sessionId, subscriptions) -> {
+            if (!subscriptions.memberId().equals(memberId)
+                    || !subscriptions.rooms().values().removeIf(chatRoomId::equals)) {
+                return;
+            }
+            try {
+                chatPresenceService.leave(chatRoomId, memberId, sessionId);
+            } catch (RuntimeException e) {
+                log.error("Failed to leave chat presence: room={}, member={}, {}", chatRoomId, memberId, e.getMessage());
+            }
+        });
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Principal user = event.getUser();
+        String destination = accessor.getDestination();
+        if (user == null || destination == null || accessor.getSessionId() == null) {
+            return;
+        }
+
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Long chatRoomId = Long.valueOf(matcher.group(1));
+        Long memberId = Long.valueOf(user.getName());
+        sessions.computeIfAbsent(accessor.getSessionId(), id -> new SessionSubscriptions(memberId))
+                .rooms().put(accessor.getSubscriptionId(), chatRoomId);
+        chatPresenceService.enter(chatRoomId, memberId, accessor.getSessionId());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        SessionSubscriptions subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long chatRoomId = subscriptions.rooms().remove(accessor.getSubscriptionId());
+        if (chatRoomId != null) {
+            chatPresenceService.leave(chatRoomId, subscriptions.memberId(), accessor.getSessionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionSubscriptions subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.rooms().values()
+                .forEach(chatRoomId -> chatPresenceService.leave(chatRoomId, subscriptions.memberId(), event.getSessionId()));
+    }
+
+    // 이 서버에 연결된 세션들의 접속 만료 시각 연장
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        List<PresenceEntry> entries = new ArrayList<>();
+        sessions.forEach((sessionId, subscriptions) -> subscriptions.rooms().values()
+                .forEach(chatRoomId -> entries.add(new PresenceEntry(chatRoomId, subscriptions.memberId(), sessionId))));
+
+        try {
+            chatPresenceService.refresh(entries);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh chat presence: sessions={}, {}", sessions.size(), e.getMessage());
+        }
+    }
+
+    // 구독 id -> 채팅방 id
+    private record SessionSubscriptions(Long memberId, Map<String, Long> rooms) {
+        SessionSubscriptions(Long memberId) {
+            this(memberId, new ConcurrentHashMap<>());
+        }
+    }
+}
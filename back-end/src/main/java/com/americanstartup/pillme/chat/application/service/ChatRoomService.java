@@ -4,9 +4,8 @@ import com.americanstartup.pillme.auth.application.service.AuthService;
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.chat.application.exception.ChatRoomNotFoundException;
 import com.americanstartup.pillme.chat.application.response.ChatRoomResponse;
-import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
 import com.americanstartup.pillme.chat.domain.entity.ChatRoom;
-import com.americanstartup.pillme.chat.infrastructure.repository.ChatMessageRepository;
+import com.americanstartup.pillme.chat.domain.item.ChatRoomSummaryItem;
 import com.americanstartup.pillme.chat.infrastructure.repository.ChatRoomRepository;
 import com.americanstartup.pillme.chat.presentation.request.ChatRoomRequest;
 import com.americanstartup.pillme.global.code.ErrorCode;
@@ -16,6 +15,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -24,26 +24,23 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final AuthService authService;
-    private final ChatRedisService chatRedisService;
+    private final ChatRoomStateService chatRoomStateService;
 
 
+    //채팅방 목록은 회원 정보와 함께 한 번에 조회하고, 마지막 메세지와 안 읽은 메세지 수는 Redis의 채팅방 요약에서 한 번에 조회
     public List<ChatRoomResponse> getUserChatRoom(Member user){
-        List<ChatRoom> chatRooms =  chatRoomRepository.findBySendUserOrReceiveUser(user, user);
+        List<ChatRoom> chatRooms = chatRoomRepository.findAllByMemberFetch(user);
         if(chatRooms.isEmpty()){
             throw new ChatRoomNotFoundException(ErrorCode.EMPTY_CHATROOM_ID);
         }
+
+        Map<Long, ChatRoomSummaryItem> summaries = chatRoomStateService.getSummaries(
+                chatRooms.stream().map(ChatRoom::getId).toList(), user.getId());
         return chatRooms.stream()
                 .map(chatRoom -> {
-                    Optional<ChatMessage> lastMessage = chatMessageRepository.findTopByChatRoomIdOrderByTimestampDesc(chatRoom.getId());
-
-                    return ChatRoomResponse.from(
-                            chatRoom,
-                            chatMessageRepository.countByChatRoomIdAndSenderIdNotAndReadFalse(chatRoom.getId(), user.getId()),
-                            lastMessage.map(ChatMessage::getMessage).orElse(""),
-                            lastMessage.map(ChatMessage::getTimestamp).orElse(null)
-                    );
+                    ChatRoomSummaryItem summary = summaries.get(chatRoom.getId());
+                    return ChatRoomResponse.from(chatRoom, summary.unreadCount(), summary.lastMessage(), summary.lastTimestamp());
                 })
                 .collect(Collectors.toList());
     }
@@ -59,6 +56,7 @@ public class ChatRoomService {
 
         newChatRoom.updateChatRoom(sendUser, receiveUser);
         newChatRoom= chatRoomRepository.save(newChatRoom);
+        chatRoomStateService.create(newChatRoom.getId(), sendUser.getId(), receiveUser.getId());
         return ChatRoomResponse.from(newChatRoom,0,"",new Date().getTime());
     }
 
@@ -70,19 +68,13 @@ public class ChatRoomService {
         ChatRoom newChatRoom = new ChatRoom();  //없을 경우 새롭게 채팅방 생성
         newChatRoom.updateChatRoom(protector, dependent);
         chatRoomRepository.save(newChatRoom);
-    }
-
-    public String getLastChatMessage(Long chatRoomId){
-        return chatMessageRepository.findTopByChatRoomIdOrderByTimestampDesc(chatRoomId).map(ChatMessage::getMessage).orElse("");
-    }
-
-    public int countNotReadMessages(Long chatRoomId, Long userId){
-        return chatMessageRepository.countByChatRoomIdAndReceiverIdAndReadFalse(chatRoomId, userId);
+        chatRoomStateService.create(newChatRoom.getId(), protector.getId(), dependent.getId());
     }
 
     public void deleteChatRoom(Long chatRoom){
         if(chatRoomRepository.existsById(chatRoom)){
             chatRoomRepository.deleteById(chatRoom);
+            chatRoomStateService.delete(chatRoom);
         } else{
             throw new ChatRoomNotFoundException(ErrorCode.EMPTY_CHATROOM_ID);
         }
@@ -92,6 +84,7 @@ public class ChatRoomService {
         Optional<ChatRoom> chatRoom = chatRoomRepository.findByUsers(sendUser, receiveUser);
         if (chatRoom.isPresent()) {
             chatRoomRepository.delete(chatRoom.get());
+            chatRoomStateService.delete(chatRoom.get().getId());
         } else {
             throw new ChatRoomNotFoundException(ErrorCode.EMPTY_CHATROOM_ID);
         }
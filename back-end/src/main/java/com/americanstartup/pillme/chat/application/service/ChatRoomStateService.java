@@ -0,0 +1,185 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import com.americanstartup.pillme.chat.domain.item.ChatRoomStateItem;
+import com.americanstartup.pillme.chat.domain.item.ChatRoomSummaryItem;
+import com.americanstartup.pillme.chat.infrastructure.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 채팅방 요약 (Redis Hash, chat_room_summary:{채팅방 id})
+ * - lastMessage, lastTimestamp: 마지막 메세지와 전송 시각
+ * - unread:{회원 id}: 회원별 안 읽은 메세지 수
+ * - 메세지 전송 시 수신자 접속 여부 확인(ChatPresenceService), 마지막 메세지 갱신, 안 읽은 메세지 수 증가를 스크립트 한 번으로 처리
+ * - 메세지는 지연 저장되므로 MongoDB 대신 이 값을 채팅 리스트에 사용
+ * - 값이 없는 경우(요약이 만들어지기 전의 채팅방) 남은 메세지를 저장한 뒤 MongoDB에서 조회하여 초기화
+ * */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomStateService {
+    static final String SUMMARY_PREFIX = "chat_room_summary:";
+    static final String LAST_MESSAGE_FIELD = "lastMessage";
+    static final String LAST_TIMESTAMP_FIELD = "lastTimestamp";
+    static final String UNREAD_FIELD_PREFIX = "unread:";
+
+    /*
+     * KEYS[1]: 수신자의 채팅방 접속 Hash (세션 id -> 만료 시각), KEYS[2]: 채팅방 요약 Hash
+     * ARGV[1]: 수신자 id, ARGV[2]: 메세지, ARGV[3]: 전송 시각, ARGV[4]: 현재 시각
+     * 반환: {읽음 여부(1/0), 안 읽은 메세지 수 (값이 없으면 -1)}
+     * */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local last = tonumber(redis.call('HGET', KEYS[2], 'lastTimestamp') or '0')
+            if tonumber(ARGV[3]) >= last then
+                redis.call('HSET', KEYS[2], 'lastMessage', ARGV[2], 'lastTimestamp', ARGV[3])
+            end
+            local read = 0
+            for _, expiresAt in ipairs(redis.call('HVALS', KEYS[1])) do
+                if tonumber(expiresAt) > tonumber(ARGV[4]) then
+                    read = 1
+                    break
+                end
+            end
+            local unread = 'unread:' .. ARGV[1]
+            if redis.call('HEXISTS', KEYS[2], unread) == 0 then
+                return {read, -1}
+            end
+            if read == 1 then
+                return {read, tonumber(redis.call('HGET', KEYS[2], unread))}
+            end
+            return {read, redis.call('HINCRBY', KEYS[2], unread, 1)}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+
+    // 메세지 전송 반영 (저장 큐에 넣기 전에 호출)
+    public ChatRoomStateItem record(ChatMessage message) {
+        Long chatRoomId = message.getChatRoomId();
+        Long receiverId = message.getReceiverId();
+        long timestamp = message.getTimestamp() != null ? message.getTimestamp() : System.currentTimeMillis();
+
+        List<?> result = redisTemplate.execute(RECORD_SCRIPT,
+                List.of(ChatPresenceService.presenceKey(chatRoomId, receiverId), summaryKey(chatRoomId)),
+                receiverId.toString(), message.getMessage(), String.valueOf(timestamp),
+                String.valueOf(System.currentTimeMillis()));
+
+        boolean read = ((Number) result.get(0)).longValue() == 1;
+        long unreadCount = ((Number) result.get(1)).longValue();
+        if (unreadCount < 0) {
+            return new ChatRoomStateItem(read, initUnreadCount(chatRoomId, receiverId, read ? 0 : 1));
+        }
+        return new ChatRoomStateItem(read, (int) unreadCount);
+    }
+
+    /*
+     * 회원이 참여한 채팅방들의 요약을 한 번에 조회 (파이프라인으로 Redis 왕복 한 번)
+     * 값이 없는 채팅방만 MongoDB에서 조회하여 초기화
+     * */
+    public Map<Long, ChatRoomSummaryItem> getSummaries(List<Long> chatRoomIds, Long memberId) {
+        List<String> fields = List.of(LAST_MESSAGE_FIELD, LAST_TIMESTAMP_FIELD, unreadField(memberId));
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+                chatRoomIds.forEach(chatRoomId -> hash.multiGet(summaryKey(chatRoomId), fields));
+                return null;
+            }
+        });
+
+        Map<Long, ChatRoomSummaryItem> summaries = new HashMap<>();
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            Long chatRoomId = chatRoomIds.get(i);
+            List<?> values = (List<?>) results.get(i);
+
+            String lastMessage = (String) values.get(0);
+            Long lastTimestamp = values.get(1) != null ? Long.valueOf(values.get(1).toString()) : null;
+            if (lastMessage == null) {
+                Optional<ChatMessage> last = initLastMessage(chatRoomId);
+                lastMessage = last.map(ChatMessage::getMessage).orElse("");
+                lastTimestamp = last.map(ChatMessage::getTimestamp).orElse(null);
+            }
+            int unreadCount = values.get(2) != null
+                    ? Integer.parseInt(values.get(2).toString())
+                    : initUnreadCount(chatRoomId, memberId, 0);
+
+            summaries.put(chatRoomId, new ChatRoomSummaryItem(lastMessage, lastTimestamp, unreadCount));
+        }
+        return summaries;
+    }
+
+    // 회원이 채팅방의 메세지를 모두 읽은 경우
+    public void resetUnreadCount(Long chatRoomId, Long memberId) {
+        redisTemplate.opsForHash().put(summaryKey(chatRoomId), unreadField(memberId), "0");
+    }
+
+    // 새로 생성된 채팅방의 요약 초기화
+    public void create(Long chatRoomId, Long sendUserId, Long receiveUserId) {
+        redisTemplate.opsForHash().putAll(summaryKey(chatRoomId), Map.of(
+                LAST_MESSAGE_FIELD, "",
+                unreadField(sendUserId), "0",
+                unreadField(receiveUserId), "0"
+        ));
+    }
+
+    // 삭제된 채팅방의 요약 제거
+    public void delete(Long chatRoomId) {
+        redisTemplate.delete(summaryKey(chatRoomId));
+    }
+
+    // 저장된 마지막 메세지로 초기화 (메세지가 없는 채팅방은 빈 문자열로 저장)
+    private Optional<ChatMessage> initLastMessage(Long chatRoomId) {
+        chatMessageWriter.flush(chatRoomId);
+        Optional<ChatMessage> last = chatMessageRepository.findTopByChatRoomIdOrderByTimestampDesc(chatRoomId);
+
+        String key = summaryKey(chatRoomId);
+        redisTemplate.opsForHash().putIfAbsent(key, LAST_MESSAGE_FIELD, last.map(ChatMessage::getMessage).orElse(""));
+        last.map(ChatMessage::getTimestamp).ifPresent(timestamp ->
+                redisTemplate.opsForHash().putIfAbsent(key, LAST_TIMESTAMP_FIELD, timestamp.toString()));
+        return last;
+    }
+
+    /*
+     * 저장된 메세지로 안 읽은 메세지 수 초기화
+     * pending: 아직 저장 큐에 넣지 않은 이번 메세지 수
+     * 동시에 다른 요청이 먼저 초기화한 경우 그 값에 이번 메세지만 더함
+     * */
+    private int initUnreadCount(Long chatRoomId, Long memberId, int pending) {
+        chatMessageWriter.flush(chatRoomId);
+        int count = chatMessageRepository.countByChatRoomIdAndReceiverIdAndReadFalse(chatRoomId, memberId) + pending;
+
+        String key = summaryKey(chatRoomId);
+        String field = unreadField(memberId);
+        if (Boolean.TRUE.equals(redisTemplate.opsForHash().putIfAbsent(key, field, String.valueOf(count)))) {
+            return count;
+        }
+        if (pending > 0) {
+            return redisTemplate.opsForHash().increment(key, field, pending).intValue();
+        }
+        Object current = redisTemplate.opsForHash().get(key, field);
+        return current != null ? Integer.parseInt(current.toString()) : count;
+    }
+
+    static String summaryKey(Long chatRoomId) {
+        return SUMMARY_PREFIX + chatRoomId;
+    }
+
+    static String unreadField(Long memberId) {
+        return UNREAD_FIELD_PREFIX + memberId;
+    }
+}
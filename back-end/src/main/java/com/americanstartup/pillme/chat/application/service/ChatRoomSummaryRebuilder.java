@@ -0,0 +1,188 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import com.americanstartup.pillme.auth.domain.vo.AuthenticatedMember;
+import com.americanstartup.pillme.auth.domain.vo.Role;
+import com.americanstartup.pillme.chat.application.exception.ChatSummaryRebuildException;
+import com.americanstartup.pillme.chat.application.response.ChatRoomSummaryRebuildResponse;
+import com.americanstartup.pillme.chat.domain.entity.ChatRoom;
+import com.americanstartup.pillme.chat.infrastructure.repository.ChatRoomRepository;
+import com.americanstartup.pillme.global.cluster.DistributedLock;
+import com.americanstartup.pillme.global.code.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * chat_messages로 채팅방 요약을 채움 (관리자가 실행하는 복구 작업)
+ * - 요약이 없는 채팅방은 조회 시 MongoDB에서 초기화되므로(ChatRoomStateService) 평소에는 실행할 필요 없음
+ *   (Redis 데이터가 유실된 뒤 채팅 리스트 첫 조회가 몰리는 것을 미리 막고 싶은 경우에 실행)
+ * - 채팅방을 batch-size개씩 id 순으로 읽고, 채팅방별 마지막 메세지와 수신자별 안 읽은 메세지 수를 집계
+ * - 이미 있는 필드는 그대로 두고 없는 필드만 HSETNX로 저장 (실행 중에 전송된 메세지로 갱신된 값을 덮어쓰지 않음)
+ * - 묶음마다 락을 연장하고, 연장하지 못한 경우(다른 서버가 실행 중) 중단
+ * */
+@Slf4j
+@Component
+public class ChatRoomSummaryRebuilder {
+    private static final String COLLECTION_NAME = "chat_messages";
+    private static final String LOCK_NAME = "chat_room_summary:rebuild";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MongoTemplate mongoTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+    private final DistributedLock distributedLock;
+    private final int batchSize;
+    private final Duration lockLease;
+
+    public ChatRoomSummaryRebuilder(
+            ChatRoomRepository chatRoomRepository,
+            MongoTemplate mongoTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            ChatMessageWriter chatMessageWriter,
+            DistributedLock distributedLock,
+            @Value("${chat.summary.rebuild.batch-size:500}") int batchSize,
+            @Value("${chat.summary.rebuild.lock-lease-minutes:5}") long lockLeaseMinutes
+    ) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.redisTemplate = redisTemplate;
+        this.chatMessageWriter = chatMessageWriter;
+        this.distributedLock = distributedLock;
+        this.batchSize = batchSize;
+        this.lockLease = Duration.ofMinutes(lockLeaseMinutes);
+    }
+
+    public ChatRoomSummaryRebuildResponse rebuild(AuthenticatedMember member) {
+        if (member.role() != Role.ADMIN) {
+            throw new ChatSummaryRebuildException(ErrorCode.CHAT_SUMMARY_REBUILD_FORBIDDEN);
+        }
+        if (!distributedLock.tryLock(LOCK_NAME, lockLease)) {
+            throw new ChatSummaryRebuildException(ErrorCode.CHAT_SUMMARY_REBUILD_IN_PROGRESS);
+        }
+
+        try {
+            return fillMissing();
+        } finally {
+            distributedLock.unlock(LOCK_NAME);
+        }
+    }
+
+    private ChatRoomSummaryRebuildResponse fillMissing() {
+        long start = System.currentTimeMillis();
+        long chatRoomCount = 0;
+        long filledFields = 0;
+        long lastId = 0;
+
+        while (true) {
+            List<ChatRoom> chatRooms = chatRoomRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            if (chatRooms.isEmpty()) {
+                break;
+            }
+            if (!distributedLock.renew(LOCK_NAME, lockLease)) {
+                log.warn("Chat room summary rebuild stopped: lock lease lost at chatRoomId={}", lastId);
+                return new ChatRoomSummaryRebuildResponse(chatRoomCount, filledFields, false,
+                        System.currentTimeMillis() - start);
+            }
+
+            filledFields += fill(chatRooms);
+            chatRoomCount += chatRooms.size();
+            lastId = chatRooms.get(chatRooms.size() - 1).getId();
+        }
+
+        log.info("Chat room summaries checked for {} rooms, {} fields filled", chatRoomCount, filledFields);
+        return new ChatRoomSummaryRebuildResponse(chatRoomCount, filledFields, true, System.currentTimeMillis() - start);
+    }
+
+    // 채팅방 묶음의 요약 중 없는 필드만 저장 (파이프라인으로 Redis 왕복 한 번), 저장한 필드 수 반환
+    private long fill(List<ChatRoom> chatRooms) {
+        List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).toList();
+        chatRoomIds.forEach(chatMessageWriter::flush);  //이 서버에서 저장 대기 중인 메세지도 집계되도록 먼저 저장
+        Map<Long, Document> lastMessages = findLastMessages(chatRoomIds);
+        Map<Long, Map<Long, Integer>> unreadCounts = countUnreadMessages(chatRoomIds);
+
+        Map<String, Map<String, String>> summaries = new LinkedHashMap<>();
+        for (ChatRoom chatRoom : chatRooms) {
+            Long chatRoomId = chatRoom.getId();
+            Map<Long, Integer> roomUnreadCounts = unreadCounts.getOrDefault(chatRoomId, Map.of());
+
+            Map<String, String> summary = new LinkedHashMap<>();
+            Document last = lastMessages.get(chatRoomId);
+            summary.put(ChatRoomStateService.LAST_MESSAGE_FIELD, last != null ? last.getString("lastMessage") : "");
+            if (last != null && last.get("lastTimestamp") != null) {
+                summary.put(ChatRoomStateService.LAST_TIMESTAMP_FIELD, last.get("lastTimestamp").toString());
+            }
+            // 회원 엔티티를 조회하지 않도록 프록시의 id만 사용
+            for (Long memberId : List.of(chatRoom.getSendUser().getId(), chatRoom.getReceiveUser().getId())) {
+                summary.put(ChatRoomStateService.unreadField(memberId),
+                        String.valueOf(roomUnreadCounts.getOrDefault(memberId, 0)));
+            }
+            summaries.put(ChatRoomStateService.summaryKey(chatRoomId), summary);
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                HashOperations<String, String, String> hash = ((RedisOperations<String, String>) operations).opsForHash();
+                summaries.forEach((key, summary) ->
+                        summary.forEach((field, value) -> hash.putIfAbsent(key, field, value)));
+                return null;
+            }
+        });
+        return results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    // 채팅방별 마지막 메세지
+    private Map<Long, Document> findLastMessages(List<Long> chatRoomIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("chatRoomId").in(chatRoomIds)),
+                Aggregation.sort(Sort.Direction.DESC, "timestamp"),
+                Aggregation.group("chatRoomId")
+                        .first("message").as("lastMessage")
+                        .first("timestamp").as("lastTimestamp")
+        );
+
+        Map<Long, Document> lastMessages = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, COLLECTION_NAME, Document.class)
+                .forEach(document -> lastMessages.put(toLong(document.get("_id")), document));
+        return lastMessages;
+    }
+
+    // 채팅방/수신자별 안 읽은 메세지 수
+    private Map<Long, Map<Long, Integer>> countUnreadMessages(List<Long> chatRoomIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("chatRoomId").in(chatRoomIds).and("read").is(false)),
+                Aggregation.group("chatRoomId", "receiverId").count().as("count")
+        );
+
+        Map<Long, Map<Long, Integer>> unreadCounts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, COLLECTION_NAME, Document.class)
+                .forEach(document -> {
+                    Document id = document.get("_id", Document.class);
+                    unreadCounts.computeIfAbsent(toLong(id.get("chatRoomId")), key -> new HashMap<>())
+                            .put(toLong(id.get("receiverId")), document.getInteger("count"));
+                });
+        return unreadCounts;
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+}
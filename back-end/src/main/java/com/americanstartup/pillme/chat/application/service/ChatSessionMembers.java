@@ -0,0 +1,28 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import com.americanstartup.pillme.auth.application.service.AuthService;
+import com.americanstartup.pillme.notification.domain.item.ChatMemberItem;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/*
+ * WebSocket 세션 동안 채팅 알림에 필요한 회원 정보(id, 이름)를 보관
+ * 같은 세션에서 보내는 메시지마다 발신자/수신자를 다시 조회하지 않도록 세션 속성에 캐싱
+ * */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionMembers {
+    private static final String ATTRIBUTE_NAME = "chatMembers";
+
+    private final AuthService authService;
+
+    @SuppressWarnings("unchecked")
+    public ChatMemberItem get(Map<String, Object> sessionAttributes, Long memberId) {
+        Map<Long, ChatMemberItem> members = (Map<Long, ChatMemberItem>) sessionAttributes
+                .computeIfAbsent(ATTRIBUTE_NAME, key -> new ConcurrentHashMap<Long, ChatMemberItem>());
+
+        return members.computeIfAbsent(memberId, id -> ChatMemberItem.from(authService.findById(id)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.americanstartup.pillme.chat.config;
+
+import com.americanstartup.pillme.global.cluster.ClusterMembership;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 서버 간 STOMP 메세지 전달 (chat.broker.mode=redis)
+ * - 각 서버는 자신에게 연결된 구독만 관리하는 simple broker를 그대로 사용
+ * - 브로커 채널로 전송되는 메세지를 Redis Pub/Sub으로 발행하고, 다른 서버는 수신한 메세지를 자신의 브로커 채널로 전달
+ * - 메세지를 보낸 서버는 바로 자신의 구독자에게 전달하므로 자신이 발행한 메세지는 무시
+ * */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisBrokerRelay implements ChannelInterceptor {
+    private static final String CHANNEL = "stomp:broadcast";
+    // 다른 서버에서 전달받은 메세지 표시 (다시 발행하지 않도록)
+    private static final String RELAYED_HEADER = "relayed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ClusterMembership clusterMembership;
+    private final MessageChannel brokerChannel;
+
+    public RedisBrokerRelay(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            ClusterMembership clusterMembership,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.clusterMembership = clusterMembership;
+        this.brokerChannel = brokerChannel;
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+
+    // 브로커 채널로 전송되는 메세지를 다른 서버에 발행
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE || accessor.getHeader(RELAYED_HEADER) != null) {
+            return message;
+        }
+        if (!(message.getPayload() instanceof byte[] payload) || accessor.getDestination() == null) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        BrokerMessage brokerMessage = new BrokerMessage(
+                clusterMembership.getInstanceId(),
+                accessor.getDestination(),
+                contentType != null ? contentType.toString() : null,
+                payload
+        );
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(brokerMessage));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to publish STOMP message: destination={}, {}", accessor.getDestination(), e.getMessage());
+        }
+        return message;
+    }
+
+    // 다른 서버에서 발행한 메세지를 이 서버의 구독자에게 전달
+    private void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        BrokerMessage brokerMessage;
+        try {
+            brokerMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), BrokerMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to read STOMP message: {}", e.getMessage());
+            return;
+        }
+        if (clusterMembership.getInstanceId().equals(brokerMessage.origin())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(brokerMessage.destination());
+        if (brokerMessage.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(brokerMessage.contentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+        brokerChannel.send(MessageBuilder.createMessage(brokerMessage.payload(), accessor.getMessageHeaders()));
+    }
+
+    private record BrokerMessage(String origin, String destination, String contentType, byte[] payload) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.americanstartup.pillme.chat.config;
 
-import com.americanstartup.pillme.auth.util.JwtUtil;
+import com.americanstartup.pillme.auth.application.service.TokenService;
+import com.americanstartup.pillme.auth.domain.vo.VerifiedToken;
+import com.americanstartup.pillme.auth.util.JwtVerifier;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.messaging.Message;
@@ -8,32 +11,76 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+/*
+ * STOMP 세션 인증
+ * - CONNECT 시 한 번만 토큰을 검증하고, 세션의 Principal(회원 id)과 토큰 만료 시간을 세션에 보관
+ * - 이후 메시지는 세션의 Principal을 그대로 사용하고, 토큰이 만료된 경우에만 메시지의 Authorization 헤더로 다시 검증
+ * */
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
-    private final JwtUtil jwtUtil;
+    private static final String MEMBER_ID = "memberId";
+    private static final String TOKEN_EXPIRES_AT = "tokenExpiresAt";
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final JwtVerifier jwtVerifier;
+    private final TokenService tokenService;
 
     @Override
     public Message<?> preSend(@NotNull Message<?> message, @NotNull MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        // wrap으로 복사한 헤더가 아닌 메시지의 헤더를 직접 수정해야 세션에 Principal이 등록됨
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
         //CONNECT 명령어(소켓 연결 시) 사용자의 토큰을 받아서 인증처리
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            try {
-                String token = accessor.getFirstNativeHeader("Authorization");
-                Long userId = jwtUtil.getUserIdFromToken(token);
-                if (userId != null) {
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId.toString(), null, null);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    accessor.setUser(authentication);
-                }
-            } catch (Exception e){
-                throw new IllegalArgumentException("Invalid or expired JWT token");
+            VerifiedToken verified = verify(accessor.getFirstNativeHeader(AUTHORIZATION));
+            if (verified != null) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(verified.memberId().toString(), null, null);
+                accessor.setUser(authentication);
+                sessionAttributes(accessor).put(MEMBER_ID, verified.memberId());
+                sessionAttributes(accessor).put(TOKEN_EXPIRES_AT, verified.expiresAt());
             }
         }
+
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            revalidateIfExpired(accessor);
+        }
         return message;
     }
+
+    // 세션의 토큰이 만료된 경우 메시지에 담긴 새 토큰으로 다시 검증 (같은 회원의 토큰이어야 함)
+    private void revalidateIfExpired(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = sessionAttributes(accessor);
+        Object expiresAt = attributes.get(TOKEN_EXPIRES_AT);
+        if (!(expiresAt instanceof Long expiry) || expiry > System.currentTimeMillis()) {
+            return;
+        }
+
+        VerifiedToken refreshed = verify(accessor.getFirstNativeHeader(AUTHORIZATION));
+        if (refreshed == null || !refreshed.memberId().equals(attributes.get(MEMBER_ID))) {
+            throw new IllegalArgumentException("Invalid or expired JWT token");
+        }
+        attributes.put(TOKEN_EXPIRES_AT, refreshed.expiresAt());
+    }
+
+    private VerifiedToken verify(String token) {
+        return jwtVerifier.verify(token)
+                .filter(verified -> !tokenService.isTokenDenylisted(token))
+                .orElse(null);
+    }
+
+    private Map<String, Object> sessionAttributes(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            throw new IllegalArgumentException("STOMP session attributes are not available");
+        }
+        return attributes;
+    }
 }
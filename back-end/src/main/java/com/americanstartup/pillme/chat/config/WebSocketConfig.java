@@ -1,23 +1,67 @@
 package com.americanstartup.pillme.chat.config;
 
-import com.americanstartup.pillme.auth.util.JwtUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+ * STOMP 브로커 설정 (chat.broker.mode)
+ * - simple: 서버 내부의 simple broker (서버가 하나인 경우, 로컬/테스트용)
+ * - redis: 서버마다 simple broker를 사용하고 Redis Pub/Sub으로 다른 서버의 구독자에게 전달 (RedisBrokerRelay)
+ * - relay: 외부 STOMP 브로커(ActiveMQ Artemis 등)로 구독과 메세지 전달을 위임
+ * */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private static final String BROKER_DESTINATION_PREFIX = "/subscribe";
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private StompHandler stompHandler;
 
     @Autowired
-    private StompHandler stompHandler;
+    private ObjectProvider<RedisBrokerRelay> redisBrokerRelay;
+
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -28,12 +72,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/subscribe");  //메시지 브로커 설정
+        if ("relay".equals(brokerMode)) {
+            registry.enableStompBrokerRelay(BROKER_DESTINATION_PREFIX)
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker(BROKER_DESTINATION_PREFIX);  //메시지 브로커 설정
+        }
         registry.setApplicationDestinationPrefixes("/publish");
+
+        // redis 모드에서는 브로커 채널로 전송되는 메세지를 다른 서버에도 발행
+        redisBrokerRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
     }
+
     //channelInterceptor 등록
+    //메세지를 받는 스레드 풀 (단체 채팅이 몰리는 시간에도 큐에 쌓이지 않도록 설정)
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        registration.taskExecutor(channelExecutor(inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+    }
+
+    //구독자에게 메세지를 보내는 스레드 풀
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor(outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
+    /*
+     * 큐가 가득 차고 스레드도 max-pool-size까지 늘어난 경우 메세지를 버리지 않고 호출한 스레드에서 바로 처리
+     * (인바운드는 웹소켓 세션 스레드, 아웃바운드는 메세지를 발행한 스레드가 처리하므로 그동안 수신/발행 속도가 늦춰짐)
+     * */
+    private ThreadPoolTaskExecutor channelExecutor(int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
     }
 }
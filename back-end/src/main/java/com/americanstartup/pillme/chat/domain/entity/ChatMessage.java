@@ -5,9 +5,18 @@ import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "chat_messages")
+@CompoundIndexes({
+        //채팅방 메세지 페이지 조회 (timestamp, _id 순으로 정렬)
+        @CompoundIndex(name = "idx_chat_room_timestamp", def = "{'chatRoomId': 1, 'timestamp': 1, '_id': 1}"),
+        //안 읽은 메세지 조회 및 읽음 처리
+        @CompoundIndex(name = "idx_chat_room_receiver_read", def = "{'chatRoomId': 1, 'receiverId': 1, 'read': 1}")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -26,4 +35,18 @@ public class ChatMessage {
     public void markAsRead(){
         this.read = true;
     }
+
+    //저장 전에 브로드캐스트하므로 id를 미리 지정
+    public void assignId(){
+        if(this.id == null){
+            this.id = new ObjectId().toHexString();
+        }
+    }
+
+    //보낸 시각이 없는 메세지는 서버 시각으로 지정 (페이지 조회 위치로 사용)
+    public void assignTimestamp(){
+        if(this.timestamp == null){
+            this.timestamp = System.currentTimeMillis();
+        }
+    }
 }
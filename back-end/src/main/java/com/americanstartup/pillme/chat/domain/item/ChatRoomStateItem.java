@@ -0,0 +1,12 @@
+package com.americanstartup.pillme.chat.domain.item;
+
+/*
+ * 메세지 전송 시점의 채팅방 상태
+ * - read: 수신자가 채팅방에 접속해 있어 바로 읽음 처리되었는지
+ * - unreadCount: 수신자의 안 읽은 메세지 수 (이번 메세지 포함)
+ * */
+public record ChatRoomStateItem(
+        boolean read,
+        int unreadCount
+) {
+}
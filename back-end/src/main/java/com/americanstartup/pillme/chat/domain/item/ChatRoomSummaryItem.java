@@ -0,0 +1,13 @@
+package com.americanstartup.pillme.chat.domain.item;
+
+/*
+ * 채팅 리스트에 표시할 채팅방 요약
+ * - lastTimestamp: 메세지가 없는 채팅방은 null
+ * - unreadCount: 조회한 회원의 안 읽은 메세지 수
+ * */
+public record ChatRoomSummaryItem(
+        String lastMessage,
+        Long lastTimestamp,
+        int unreadCount
+) {
+}
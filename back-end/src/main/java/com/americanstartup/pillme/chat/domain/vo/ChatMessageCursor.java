@@ -0,0 +1,36 @@
+package com.americanstartup.pillme.chat.domain.vo;
+
+import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import org.bson.types.ObjectId;
+
+/*
+ * 채팅 메세지 페이지 조회 위치 ("{timestamp}_{id}")
+ * 같은 시각에 보낸 메세지도 구분할 수 있도록 id를 함께 사용
+ * */
+public record ChatMessageCursor(
+        long timestamp,
+        ObjectId id
+) {
+    private static final String DELIMITER = "_";
+
+    // 보낸 시각이 없는 메세지인 경우 IllegalArgumentException
+    public static ChatMessageCursor from(ChatMessage chatMessage) {
+        if (chatMessage.getTimestamp() == null) {
+            throw new IllegalArgumentException("Chat message without timestamp: " + chatMessage.getId());
+        }
+        return new ChatMessageCursor(chatMessage.getTimestamp(), new ObjectId(chatMessage.getId()));
+    }
+
+    // 잘못된 형식인 경우 IllegalArgumentException
+    public static ChatMessageCursor parse(String value) {
+        String[] parts = value.split(DELIMITER, 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid chat message cursor: " + value);
+        }
+        return new ChatMessageCursor(Long.parseLong(parts[0]), new ObjectId(parts[1]));
+    }
+
+    public String encode() {
+        return timestamp + DELIMITER + id.toHexString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.americanstartup.pillme.chat.infrastructure.repository;
+
+import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import com.americanstartup.pillme.chat.domain.vo.ChatMessageCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ChatMessageRepositoryCustom {
+
+    //cursor 이전 메세지를 최신순으로 limit개 조회 (cursor가 없으면 가장 최근 메세지부터)
+    List<ChatMessage> findBefore(Long chatRoomId, ChatMessageCursor cursor, int limit);
+
+    //cursor 이후 메세지를 보낸 순서대로 limit개 조회
+    List<ChatMessage> findAfter(Long chatRoomId, ChatMessageCursor cursor, int limit);
+
+    //수신자의 안 읽은 메세지를 한 번에 읽음 처리하고 변경된 메세지 수 반환
+    long markAllAsRead(Long chatRoomId, Long receiverId);
+
+    //채팅방의 모든 메세지를 보낸 순서대로 커서로 조회 (사용 후 close 필요)
+    Stream<ChatMessage> streamByChatRoomId(Long chatRoomId);
+}
@@ -0,0 +1,75 @@
+package com.americanstartup.pillme.chat.infrastructure.repository;
+
+import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import com.americanstartup.pillme.chat.domain.vo.ChatMessageCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * 채팅 메세지 keyset 페이지 조회
+ * - (chatRoomId, timestamp, _id) 인덱스 순서로 조회하므로 이전 페이지를 건너뛰지 않고 바로 조회
+ * - 응답에 필요한 필드만 조회
+ * */
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
+    private static final String TIMESTAMP = "timestamp";
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ChatMessage> findBefore(Long chatRoomId, ChatMessageCursor cursor, int limit) {
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId);
+        if (cursor != null) {
+            criteria.orOperator(
+                    Criteria.where(TIMESTAMP).lt(cursor.timestamp()),
+                    Criteria.where(TIMESTAMP).is(cursor.timestamp()).and(ID).lt(cursor.id())
+            );
+        }
+        return mongoTemplate.find(pageQuery(criteria, Sort.Direction.DESC, limit), ChatMessage.class);
+    }
+
+    @Override
+    public List<ChatMessage> findAfter(Long chatRoomId, ChatMessageCursor cursor, int limit) {
+        Criteria criteria = Criteria.where("chatRoomId").is(chatRoomId).orOperator(
+                Criteria.where(TIMESTAMP).gt(cursor.timestamp()),
+                Criteria.where(TIMESTAMP).is(cursor.timestamp()).and(ID).gt(cursor.id())
+        );
+        return mongoTemplate.find(pageQuery(criteria, Sort.Direction.ASC, limit), ChatMessage.class);
+    }
+
+    // 메세지를 조회하지 않고 updateMany 한 번으로 처리 ((chatRoomId, receiverId, read) 인덱스 사용)
+    @Override
+    public long markAllAsRead(Long chatRoomId, Long receiverId) {
+        Query query = Query.query(Criteria.where("chatRoomId").is(chatRoomId)
+                .and("receiverId").is(receiverId)
+                .and("read").is(false));
+        return mongoTemplate.updateMulti(query, Update.update("read", true), ChatMessage.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public Stream<ChatMessage> streamByChatRoomId(Long chatRoomId) {
+        Query query = withResponseFields(Query.query(Criteria.where("chatRoomId").is(chatRoomId))
+                .with(Sort.by(Sort.Direction.ASC, TIMESTAMP, ID)));
+        return mongoTemplate.stream(query, ChatMessage.class);
+    }
+
+    private Query pageQuery(Criteria criteria, Sort.Direction direction, int limit) {
+        return withResponseFields(Query.query(criteria)
+                .with(Sort.by(direction, TIMESTAMP, ID))
+                .limit(limit));
+    }
+
+    private Query withResponseFields(Query query) {
+        query.fields().include("chatRoomId", "senderId", "message", TIMESTAMP);
+        return query;
+    }
+}
@@ -2,6 +2,7 @@ package com.americanstartup.pillme.chat.infrastructure.repository;
 
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.chat.domain.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,8 +14,19 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     List<ChatRoom> findBySendUserOrReceiveUser(Member sendUser, Member receiveUser);
 
+    //채팅 리스트에서 상대방 이름을 표시하므로 회원 정보를 함께 조회
+    @Query("SELECT c FROM ChatRoom c JOIN FETCH c.sendUser JOIN FETCH c.receiveUser WHERE c.sendUser = :user OR c.receiveUser = :user")
+    List<ChatRoom> findAllByMemberFetch(@Param("user") Member user);
+
     @Query("SELECT c FROM ChatRoom c WHERE (c.sendUser = :user1 AND c.receiveUser = :user2) OR (c.sendUser = :user2 AND c.receiveUser = :user1)")
     Optional<ChatRoom> findByUsers(@Param("user1") Member sendUser, @Param("user2") Member receiveUser);
 
+    //회원이 참여한 채팅방인지 확인
+    @Query("SELECT COUNT(c) > 0 FROM ChatRoom c WHERE c.id = :chatRoomId AND (c.sendUser.id = :memberId OR c.receiveUser.id = :memberId)")
+    boolean existsByIdAndMemberId(@Param("chatRoomId") Long chatRoomId, @Param("memberId") Long memberId);
+
+    //채팅방 요약 구성 시 id 순으로 나누어 조회
+    List<ChatRoom> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     void deleteBySendUserAndReceiveUser(Member sendUser, Member receiveUser);
 }
\ No newline at end of file
@@ -2,14 +2,17 @@ package com.americanstartup.pillme.chat.presentation.controller;
 
 import com.americanstartup.pillme.auth.annotation.Auth;
 import com.americanstartup.pillme.auth.domain.entity.Member;
+import com.americanstartup.pillme.chat.application.response.ChatMessagePageResponse;
 import com.americanstartup.pillme.chat.application.response.ChatMessageResponse;
 import com.americanstartup.pillme.chat.application.service.ChatMessageService;
 import com.americanstartup.pillme.global.code.SuccessCode;
 import com.americanstartup.pillme.global.response.JSONResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
 
@@ -26,6 +29,28 @@ public class ChatController {
     public ResponseEntity<JSONResponse<List<ChatMessageResponse>>> getChatMessages(@PathVariable Long chatRoomId){
         return ResponseEntity.ok(JSONResponse.onSuccess(chatMessageService.getChatMessages(chatRoomId)));
     }
+    //채팅방 메세지 페이지 조회 (before: 이전 메세지, after: 이후 메세지, 둘 다 없으면 가장 최근 메세지)
+    @GetMapping("/{chatRoomId}/messages")
+    public ResponseEntity<JSONResponse<ChatMessagePageResponse>> getChatMessagePage(
+            @PathVariable Long chatRoomId,
+            @Auth Member member,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size){
+        return ResponseEntity.ok(JSONResponse.onSuccess(
+                chatMessageService.getChatMessagePage(chatRoomId, member.getId(), before, after, size)));
+    }
+
+    //채팅방 전체 메세지 내보내기 (JSON 배열을 스트리밍으로 응답, 응답을 시작하기 전에 참여 여부 확인)
+    @GetMapping(value = "/{chatRoomId}/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportChatMessages(@PathVariable Long chatRoomId, @Auth Member member){
+        chatMessageService.validateChatRoomMember(chatRoomId, member.getId());
+        StreamingResponseBody body = outputStream -> chatMessageService.exportChatMessages(chatRoomId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     //채팅방에 유저가 들어올 시 본인에게 온 메세지 중 안 읽은 메세지 읽음으로 처리
     @PostMapping("/read/{chatRoomId}")
     public ResponseEntity<JSONResponse<Void>> readChatRoom(@PathVariable Long chatRoomId, @Auth Member member){
@@ -3,7 +3,7 @@ package com.americanstartup.pillme.chat.presentation.controller;
 import com.americanstartup.pillme.auth.annotation.Auth;
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.chat.application.response.ChatRoomResponse;
-import com.americanstartup.pillme.chat.application.service.ChatRedisService;
+import com.americanstartup.pillme.chat.application.service.ChatPresenceTracker;
 import com.americanstartup.pillme.chat.application.service.ChatRoomService;
 import com.americanstartup.pillme.chat.presentation.request.ChatRoomRequest;
 import com.americanstartup.pillme.global.code.SuccessCode;
@@ -22,7 +22,7 @@ import java.util.List;
 public class ChatRoomController {
 
     private final ChatRoomService chatRoomService;
-    private final ChatRedisService chatRedisService;
+    private final ChatPresenceTracker chatPresenceTracker;
 
     //유저의 채팅방 정보 조회
     @GetMapping("/list")
@@ -42,10 +42,10 @@ public class ChatRoomController {
         chatRoomService.deleteChatRoom(chatRoom);
         return ResponseEntity.ok(JSONResponse.of(SuccessCode.CHATROOM_DELETE_SUCCESS));
     }
-    //채팅방을 나갈 시 redis에서 유저 정보 삭제
+    //채팅방을 나갈 시 모든 세션의 채팅방 접속 해제
     @PostMapping("leave/{chatRoomId}")
     public ResponseEntity<JSONResponse<Void>> leaveChatRoom(@PathVariable Long chatRoomId, @Auth Member member){
-        chatRedisService.leaveChatRoom(chatRoomId, member.getId());
+        chatPresenceTracker.leaveAll(chatRoomId, member.getId());
         return ResponseEntity.ok(JSONResponse.of(SuccessCode.CHATROOM_LEAVE_SUCCESS));
     }
 }
@@ -1,21 +1,23 @@
 package com.americanstartup.pillme.chat.presentation.controller;
 
-import com.americanstartup.pillme.auth.application.service.AuthService;
-import com.americanstartup.pillme.auth.domain.entity.Member;
-import com.americanstartup.pillme.auth.util.JwtUtil;
+import com.americanstartup.pillme.auth.application.exception.token.InvalidAccessTokenException;
 import com.americanstartup.pillme.chat.application.response.ChatRoomUpdateResponse;
 import com.americanstartup.pillme.chat.application.service.ChatMessageService;
-import com.americanstartup.pillme.chat.application.service.ChatRoomService;
+import com.americanstartup.pillme.chat.application.service.ChatSessionMembers;
 import com.americanstartup.pillme.chat.domain.entity.ChatMessage;
+import com.americanstartup.pillme.chat.domain.item.ChatRoomStateItem;
 import com.americanstartup.pillme.notification.application.service.NotificationService;
+import com.americanstartup.pillme.notification.domain.item.ChatMemberItem;
 import lombok.AllArgsConstructor;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
 
 @Controller
@@ -23,30 +25,33 @@ import java.util.Objects;
 public class WebSocketChatController {
 
     private final ChatMessageService chatMessageService;
-    private final ChatRoomService chatRoomService;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
-    private final AuthService authService;
-    private final JwtUtil jwtUtil;
+    private final ChatSessionMembers chatSessionMembers;
 
     //실시간 메세지 저장 및 마지막 메세지 조회, 안 읽은 메세지 조회를 통해 상대방의 채팅 리스트 실시간 업데이트
+    //메세지는 지연 저장되고, 마지막 메세지와 안 읽은 메세지 수는 저장 요청 시 갱신된 Redis 값을 사용
+    //발신자는 CONNECT 시 인증된 세션의 Principal을 사용하고, 알림에 필요한 회원 정보는 세션에 캐싱된 값을 사용
     @MessageMapping("/chat.{chatRoomId}")
     @SendTo("/subscribe/chat.{chatRoomId}")
-    public ChatMessage sendMessage(ChatMessage message, @Header("Authorization") String accessToken){
-        Long userId = jwtUtil.getUserIdFromToken(accessToken);
-        Member sender = authService.findById(userId);
-        ChatMessage chatMessage = chatMessageService.saveMessage(message);
+    public ChatMessage sendMessage(ChatMessage message, Principal principal, SimpMessageHeaderAccessor headerAccessor){
+        if (principal == null) {
+            throw new InvalidAccessTokenException();
+        }
+
+        Long userId = Long.valueOf(principal.getName());
+        Map<String, Object> session = headerAccessor.getSessionAttributes();
+        ChatMemberItem sender = chatSessionMembers.get(session, userId);
+        ChatRoomStateItem state = chatMessageService.saveMessage(message);
         Long receiveId = Objects.equals(userId, message.getSenderId()) ? message.getReceiverId() : message.getSenderId();
-        Member receiver = authService.findById(receiveId);
-        int unreadCount = chatRoomService.countNotReadMessages(message.getChatRoomId(), receiveId);
-        String lastMessage = chatRoomService.getLastChatMessage(message.getChatRoomId());
+        ChatMemberItem receiver = chatSessionMembers.get(session, receiveId);
 
-        if(!chatMessage.isRead()){
+        if(!state.read()){
             notificationService.sendChatNotification(message.getChatRoomId(), sender, receiver, message.getMessage(), message.getTimestamp());
         }
 
         messagingTemplate.convertAndSend("/subscribe/chat/list/" + receiveId,
-                new ChatRoomUpdateResponse(message.getChatRoomId(), unreadCount, new Date().getTime(), lastMessage));
+                new ChatRoomUpdateResponse(message.getChatRoomId(), state.unreadCount(), new Date().getTime(), message.getMessage()));
         return message;
     }
 }
@@ -220,6 +220,15 @@ public class DependencyService {
         return dependencyRepository.findProtectorsByDependentAndDeletedIsFalse(dependent);
     }
 
+    // 여러 피보호자의 관계(보호자 포함)를 한 번의 쿼리로 조회
+    @Transactional(readOnly = true)
+    public List<Dependency> findDependenciesByDependentIds(List<Long> dependentIds) {
+        if (dependentIds.isEmpty()) {
+            return List.of();
+        }
+        return dependencyRepository.findAllByDependentIdInAndDeletedIsFalse(dependentIds);
+    }
+
     // 보호자가 피보호자에게 약 복용 알림을 전송
     public void sendMedicineNotification(SendMedicineNotificationRequest request, Member loginMember) {
         // 피보호자 id와 현재 로그인(보호자) 회원 id로 관계 정보 조회
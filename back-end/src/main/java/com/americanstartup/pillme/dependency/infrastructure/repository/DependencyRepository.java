@@ -29,6 +29,13 @@ public interface DependencyRepository extends JpaRepository<Dependency, Long> {
             "WHERE ((d.protector.id = :firstMemberId AND d.dependent.id = :secondMemberId) OR (d.protector.id = :secondMemberId AND d.dependent.id = :firstMemberId)) AND d.deleted = false")
     List<Dependency> findByMemberIdsAndDeletedIsFalse(@Param("firstMemberId") Long firstMemberId, @Param("secondMemberId") Long secondMemberId);
 
+    // 여러 피보호자의 관계 일괄 조회 (보호자, 피보호자 fetch join)
+    @Query("SELECT d FROM Dependency d " +
+            "JOIN FETCH d.protector " +
+            "JOIN FETCH d.dependent " +
+            "WHERE d.dependent.id IN :dependentIds AND d.deleted = false")
+    List<Dependency> findAllByDependentIdInAndDeletedIsFalse(@Param("dependentIds") List<Long> dependentIds);
+
     // 회원의 모든 보호자 조회
     @Query("SELECT d.protector FROM Dependency d WHERE d.dependent = :dependent AND d.deleted = false")
     List<Member> findProtectorsByDependentAndDeletedIsFalse(Member dependent);
@@ -0,0 +1,59 @@
+package com.americanstartup.pillme.global.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 해시 값(SHA-256 등 16바이트 이상의 균등 분포 해시)을 원소로 받는 Bloom 필터
+ * - mightContain이 false이면 확실히 없는 원소, true이면 있을 수도 있는 원소
+ * - 원소의 앞 16바이트를 두 개의 64비트 해시로 사용하여 k개의 비트 위치를 계산 (double hashing)
+ * - 비트 배열을 AtomicLongArray로 관리하여 여러 스레드에서 동시에 추가/조회 가능 (삭제는 지원하지 않음)
+ * */
+public class BloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max((m + 63) / 64, 1);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = (int) Math.max(Math.round((double) bitSize / n * Math.log(2)), 1);
+    }
+
+    public void put(byte[] hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] hash) {
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        long h1 = buffer.getLong();
+        long h2 = buffer.getLong();
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+package com.americanstartup.pillme.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/*
+ * 서버 로컬 캐시 무효화를 모든 서버에 전파하기 위한 Redis Pub/Sub 채널
+ * - 로컬 캐시를 사용하는 컴포넌트는 캐시 이름으로 무효화 처리기를 등록
+ * - 데이터가 변경된 서버는 캐시 이름과 키를 발행하고, 모든 서버(자신 포함)가 해당 키를 무효화
+ * */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    private static final String CHANNEL = "cache:invalidate";
+    private static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        redisMessageListenerContainer.addMessageListener(this::onMessage, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시 이름에 대한 무효화 처리기 등록
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    // 모든 서버에 캐시 무효화 전파
+    public void publish(String cacheName, String key) {
+        redisTemplate.convertAndSend(CHANNEL, cacheName + DELIMITER + key);
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+        if (index < 0) {
+            return;
+        }
+
+        Consumer<String> handler = handlers.get(body.substring(0, index));
+        if (handler != null) {
+            handler.accept(body.substring(index + 1));
+        }
+    }
+}
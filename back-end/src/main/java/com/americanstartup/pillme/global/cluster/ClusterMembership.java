@@ -0,0 +1,95 @@
+package com.americanstartup.pillme.global.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/*
+ * Redis 하트비트를 이용한 서버(인스턴스) 목록 관리
+ * - 각 서버는 주기적으로 Sorted Set에 (인스턴스 id, 마지막 하트비트 시각)을 기록
+ * - 일정 시간 동안 하트비트가 없는 서버는 목록에서 제거
+ * - 살아있는 서버 목록을 id 순으로 정렬하여 현재 서버의 순번과 전체 서버 수로 파티션을 계산
+ * */
+@Slf4j
+@Component
+public class ClusterMembership {
+    private static final String INSTANCES_KEY = "cluster:instances";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long instanceTtlMillis;
+
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ClusterMembership(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${cluster.instance-ttl-ms:15000}") long instanceTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.instanceTtlMillis = instanceTtlMillis;
+    }
+
+    // 서버 시작 시, 이후 주기적으로 하트비트 기록 및 만료된 서버 제거
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRateString = "${cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(INSTANCES_KEY, instanceId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(INSTANCES_KEY, 0, now - instanceTtlMillis);
+        } catch (RuntimeException e) {
+            log.error("Failed to send cluster heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /*
+     * 현재 서버가 담당하는 파티션 계산
+     * Redis 장애 시 알림이 누락되지 않도록 현재 서버가 모든 작업을 담당 (중복 전송 가능)
+     * */
+    public ClusterPartition currentPartition() {
+        try {
+            List<String> instances = new ArrayList<>(liveInstances());
+            // 하트비트가 지연되어 목록에서 빠진 경우 다시 등록
+            if (!instances.contains(instanceId)) {
+                heartbeat();
+                instances.add(instanceId);
+            }
+            Collections.sort(instances);
+
+            return new ClusterPartition(instances.indexOf(instanceId), instances.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to read cluster membership, running as single instance: {}", e.getMessage());
+            return ClusterPartition.SINGLE;
+        }
+    }
+
+    // 하트비트가 만료되지 않은 서버 id 목록
+    public Set<String> liveInstances() {
+        long now = System.currentTimeMillis();
+        Set<String> instances = redisTemplate.opsForZSet()
+                .rangeByScore(INSTANCES_KEY, now - instanceTtlMillis, Double.MAX_VALUE);
+        return instances == null ? Set.of() : instances;
+    }
+
+    // 서버 종료 시 목록에서 즉시 제거하여 다른 서버가 바로 작업을 넘겨받도록 함
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(INSTANCES_KEY, instanceId);
+        } catch (RuntimeException e) {
+            log.error("Failed to leave cluster: {}", e.getMessage());
+        }
+    }
+}
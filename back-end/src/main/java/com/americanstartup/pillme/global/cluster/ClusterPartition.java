@@ -0,0 +1,19 @@
+package com.americanstartup.pillme.global.cluster;
+
+/*
+ * 현재 서버가 담당하는 파티션 정보
+ * index: 살아있는 서버들 중 현재 서버의 순번 (0부터 시작)
+ * size: 살아있는 서버 수
+ * */
+public record ClusterPartition(
+        int index,
+        int size
+) {
+    // Redis를 사용할 수 없는 경우 현재 서버가 모든 작업을 담당
+    public static final ClusterPartition SINGLE = new ClusterPartition(0, 1);
+
+    // key % size == index 인 작업만 현재 서버가 담당
+    public boolean owns(long key) {
+        return Math.floorMod(key, size) == index;
+    }
+}
@@ -0,0 +1,65 @@
+package com.americanstartup.pillme.global.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * Redis SET NX 를 이용한 분산 락
+ * - 락은 lease 시간이 지나면 자동으로 해제되어 서버가 비정상 종료되어도 영구히 잠기지 않음
+ * - 해제 시 자신이 획득한 락인 경우에만 삭제
+ * - 오래 걸리는 작업은 진행 중에 lease를 연장하여 다른 서버가 중간에 락을 획득하지 않도록 함
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLock {
+    private static final String LOCK_PREFIX = "lock:";
+
+    // 락 소유자가 일치하는 경우에만 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 락 소유자가 일치하는 경우에만 lease 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClusterMembership clusterMembership;
+
+    // 락 획득 시도 (이미 다른 서버가 획득한 경우 false)
+    public boolean tryLock(String name, Duration leaseTime) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_PREFIX + name, clusterMembership.getInstanceId(), leaseTime);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    // 락 lease 연장 (lease가 만료되어 다른 서버가 락을 획득한 경우 false)
+    public boolean renew(String name, Duration leaseTime) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_PREFIX + name),
+                    clusterMembership.getInstanceId(), String.valueOf(leaseTime.toMillis()));
+            return renewed != null && renewed == 1;
+        } catch (RuntimeException e) {
+            log.error("Failed to renew lock {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    // 락 해제
+    public void unlock(String name) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + name), clusterMembership.getInstanceId());
+        } catch (RuntimeException e) {
+            log.error("Failed to release lock {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.americanstartup.pillme.global.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/*
+ * 파티션 단위로 나누어 실행하는 작업의 실행 기록
+ * - 작업 실행(run)마다 Redis Hash에 "파티션 순번/서버 수" -> 실행 중인 서버 id 또는 완료(done)를 기록
+ * - 서버가 비정상 종료되면 하트비트가 만료되기 전까지 다른 서버들이 그 서버의 파티션을 건너뛰므로,
+ *   이후 실행 기록을 확인하여 완료되지 않은 파티션의 작업을 다른 서버가 다시 처리할 수 있도록 함
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionProgress {
+    private static final String PROGRESS_PREFIX = "cluster:progress:";
+    private static final String DONE = "done";
+
+    // 실행 기록 보관 시간 (재처리 확인이 끝난 뒤 자동 삭제)
+    private static final Duration PROGRESS_TTL = Duration.ofMinutes(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClusterMembership clusterMembership;
+
+    // 파티션 작업 시작 기록
+    public void start(String job, String runId, ClusterPartition partition) {
+        record(job, runId, partition, clusterMembership.getInstanceId());
+    }
+
+    // 파티션 작업 완료 기록
+    public void complete(String job, String runId, ClusterPartition partition) {
+        record(job, runId, partition, DONE);
+    }
+
+    /*
+     * 실행 기록 기준으로 처리된 것으로 볼 수 있는 key 조건
+     * 완료되었거나 아직 살아있는 서버가 실행 중인 파티션에 속한 key만 처리된 것으로 판단
+     * (실행 기록이 없거나, 실행하던 서버가 종료된 파티션의 key는 재처리 대상)
+     * Redis 장애 시에는 중복 전송을 막기 위해 모두 처리된 것으로 판단
+     * */
+    public LongPredicate findCovered(String job, String runId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(progressKey(job, runId));
+            Set<String> liveInstances = clusterMembership.liveInstances();
+
+            List<ClusterPartition> covered = new ArrayList<>();
+            entries.forEach((field, owner) -> {
+                if (DONE.equals(owner) || liveInstances.contains(owner.toString())) {
+                    covered.add(parse(field.toString()));
+                }
+            });
+            return key -> covered.stream().anyMatch(partition -> partition.owns(key));
+        } catch (RuntimeException e) {
+            log.error("Failed to read partition progress of {}: {}", job, e.getMessage());
+            return key -> true;
+        }
+    }
+
+    private void record(String job, String runId, ClusterPartition partition, String value) {
+        String key = progressKey(job, runId);
+        try {
+            redisTemplate.opsForHash().put(key, partition.index() + "/" + partition.size(), value);
+            redisTemplate.expire(key, PROGRESS_TTL);
+        } catch (RuntimeException e) {
+            log.error("Failed to record partition progress of {}: {}", job, e.getMessage());
+        }
+    }
+
+    private ClusterPartition parse(String field) {
+        int separator = field.indexOf('/');
+        return new ClusterPartition(
+                Integer.parseInt(field.substring(0, separator)),
+                Integer.parseInt(field.substring(separator + 1)));
+    }
+
+    private String progressKey(String job, String runId) {
+        return PROGRESS_PREFIX + job + ":" + runId;
+    }
+}
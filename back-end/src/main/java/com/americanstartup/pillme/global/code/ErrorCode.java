@@ -1,6 +1,7 @@
 package com.americanstartup.pillme.global.code;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
@@ -80,10 +81,20 @@ public enum ErrorCode {
     MEMBER_NOT_READER(4056, UNAUTHORIZED, "잘못 조회된 복약 정보입니다."),
     MEMBER_NOT_PROTECTOR(4057, UNAUTHORIZED, "자신이 관리하고 있지 않은 사용자에 복약 내역을 추가할 수 없습니다"),
     ANALYZE_ERROR(4057, INTERNAL_SERVER_ERROR, "현재 이미지 분석이 불가능합니다."),
+    ANALYSIS_JOB_NOT_FOUND(4058, NOT_FOUND, "요청한 처방전 분석 작업이 존재하지 않습니다."),
 
     //채팅방 관리
     EMPTY_CHATROOM_ID(4070, BAD_REQUEST, "요청한 채팅방은 존재하지 않습니다."),
     MARK_NOT_WORK(4071, BAD_REQUEST, "요청한 채팅방의 채팅이 읽음처리 되지 않았습니다."),
+    INVALID_CHAT_CURSOR(4072, BAD_REQUEST, "잘못된 채팅 조회 위치입니다."),
+    CHAT_SUMMARY_REBUILD_IN_PROGRESS(4073, BAD_REQUEST, "이미 채팅방 요약을 구성하고 있습니다."),
+    CHAT_SUMMARY_REBUILD_FORBIDDEN(4074, FORBIDDEN, "관리자만 채팅방 요약을 구성할 수 있습니다."),
+
+    // 약물 검색
+    INVALID_MEDICATION_CATALOG(4080, BAD_REQUEST, "약물 목록 파일을 읽을 수 없습니다."),
+    MEDICATION_REINDEX_IN_PROGRESS(4081, BAD_REQUEST, "이미 약물 목록을 색인하고 있습니다."),
+    MEDICATION_REINDEX_FAILED(4082, INTERNAL_SERVER_ERROR, "약물 목록 색인에 실패했습니다."),
+    MEDICATION_REINDEX_FORBIDDEN(4083, FORBIDDEN, "관리자만 약물 목록을 색인할 수 있습니다."),
 
     // 복약 내역
     HISTORY_NOT_FOUND(4100, NOT_FOUND, "복약 내역을 찾을 수 없습니다."),
@@ -1,5 +1,6 @@
 package com.americanstartup.pillme.global.code;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -22,6 +23,9 @@ public enum SuccessCode {
     INFORMATION_DELETE_REQUEST_REJECT_SUCCESS(2105, OK, "복약 정보 삭제 요청을 거절했습니다."),
     INFORMATION_DELETE_SUCCESS(2105, OK, "복약 정보를 성공적으로 삭제하였습니다."),
     INFORMATION_DELETE_REQUEST_SUCCESS(2106, OK, "복약 정보 삭제 요청이 성공적으로 처리되었습니다."),
+    MEDICATION_BULK_CHECK_SUCCESS(2107, OK, "복약 정보 일괄 체크가 성공적으로 처리되었습니다."),
+    ANALYZE_REQUEST_SUCCESS(2108, ACCEPTED, "처방전 분석이 요청되었습니다."),
+    ANALYSIS_JOB_SELECT_SUCCESS(2109, OK, "처방전 분석 상태를 조회했습니다."),
 
     // 약물 검색
     MEDICATION_SEARCH_SUCCESS(2200, OK, "약물 검색이 성공적으로 완료되었습니다"),
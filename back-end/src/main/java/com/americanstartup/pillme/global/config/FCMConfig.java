@@ -6,6 +6,7 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -16,8 +17,9 @@ public class FCMConfig {
     @Value("${spring.firebase.path}")
     private String credentialsPath;
 
-    // FirebaseMessaging 인스턴스를 생성하는 메서드
+    // FirebaseMessaging 인스턴스를 생성하는 메서드 (fcm.sender.mode=stub 인 경우 생성하지 않음)
     @Bean
+    @ConditionalOnProperty(name = "fcm.sender.mode", havingValue = "firebase", matchIfMissing = true)
     public FirebaseMessaging firebaseMessaging() throws IOException {
         try {
             GoogleCredentials credentials = GoogleCredentials // firebase-credentials.json 파일에서 인증 정보를 가져옴
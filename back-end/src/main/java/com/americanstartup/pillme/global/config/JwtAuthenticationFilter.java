@@ -1,7 +1,8 @@
 package com.americanstartup.pillme.global.config;
 
 import com.americanstartup.pillme.auth.application.service.TokenService;
-import com.americanstartup.pillme.auth.util.JwtUtil;
+import com.americanstartup.pillme.auth.domain.vo.VerifiedToken;
+import com.americanstartup.pillme.auth.util.JwtVerifier;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,7 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
     private final TokenService tokenService;
 
     @Override
@@ -29,13 +30,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = extractToken(request);
 
         // 토큰이 유효하고 거부 목록에 없는 경우에만 인증 처리
-        if (token != null && jwtUtil.validateToken(token) && !tokenService.isTokenDenylisted(token)) {
-            var claims = jwtUtil.extractClaims(token);
+        VerifiedToken verified = jwtVerifier.verify(token).orElse(null);
+        if (verified != null && !tokenService.isTokenDenylisted(token)) {
             // SecurityContext에 인증 정보 설정
             var authentication = new UsernamePasswordAuthenticationToken(
-                    claims.get("memberId"),
+                    verified.memberId(),
                     null,
-                    List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role")))
+                    List.of(new SimpleGrantedAuthority("ROLE_" + verified.role()))
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -1,51 +1,98 @@
 package com.americanstartup.pillme.history.application;
 
-import com.americanstartup.pillme.history.domain.History;
-import com.americanstartup.pillme.history.infrastructure.HistoryRepository;
-import com.americanstartup.pillme.management.application.ManagementService;
-import com.americanstartup.pillme.management.domain.Management;
-import jakarta.transaction.Transactional;
+import com.americanstartup.pillme.global.cluster.DistributedLock;
+import com.americanstartup.pillme.history.infrastructure.HistoryRolloverRepository;
+import com.americanstartup.pillme.management.application.CurrentTakingCache;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/*
+ * 전날 복용 정보를 복용 기록으로 옮기고 복용 여부를 초기화
+ * - 복용 관리 id 순으로 일정 개수씩 나누어 처리하고, 청크마다 커밋하여 락을 오래 잡지 않음
+ * - 이미 생성된 기록의 마지막 복용 관리 id부터 이어서 진행하므로 중간에 중단되어도 다시 실행하면 이어서 처리
+ * - 02시부터 15분 간격으로 실행하여 중단된 작업을 이어서 처리 (완료된 경우 조회 한 번으로 끝남)
+ * - 청크마다 락 lease를 연장하고, 연장에 실패하면(다른 서버가 락을 획득) 중단
+ * - 청크의 복용 관리 행을 잠근 뒤 기록이 없는 행만 처리하여 두 서버가 같은 청크를 처리해도 한 번만 초기화
+ * */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@Transactional
 public class HistoryScheduler {
-    private final HistoryRepository historyRepository;
-    private final ManagementService managementService;
+    private final HistoryRolloverRepository historyRolloverRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributedLock distributedLock;
+    private final CurrentTakingCache currentTakingCache;
 
-    @Scheduled(cron = "0 0 2 * * *")
+    private static final int CHUNK_SIZE = 1000;
+    private static final LocalTime ROLLOVER_START_TIME = LocalTime.of(2, 0);
+
+    // 여러 서버에서 동시에 실행되지 않도록 날짜별 락 사용 (서버가 비정상 종료된 경우를 위해 lease 설정)
+    private static final Duration HISTORY_LOCK_LEASE = Duration.ofMinutes(30);
+
+    @Scheduled(cron = "0 0/15 2 * * *")
     public void creatHistory() {
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        List<Management> validManagements = managementService.selectYesterdayManagementList();
-
-        List<History> histories = validManagements.stream()
-                .filter(management -> !management.isDeleted())
-                .map(management -> {
-                    History history = History.builder()
-                            .information(management.getInformation())
-                            .management(management)
-                            .member(management.getInformation().getReader())
-                            .morning(management.isMorning())
-                            .lunch(management.isLunch())
-                            .dinner(management.isDinner())
-                            .sleep(management.isSleep())
-                            .morningTaking(management.isMorningTaking())
-                            .lunchTaking(management.isLunchTaking())
-                            .dinnerTaking(management.isDinnerTaking())
-                            .sleepTaking(management.isSleepTaking())
-                            .takingDate(yesterday)
-                            .build();
-
-                    management.resetTakingInformation();
-                    return history;
-                })
-                .toList();
-
-        historyRepository.saveAll(histories);
+        String lockName = "history:" + yesterday;
+        if (!distributedLock.tryLock(lockName, HISTORY_LOCK_LEASE)) {
+            return;
+        }
+
+        try {
+            rollover(yesterday, lockName);
+        } finally {
+            distributedLock.unlock(lockName);
+        }
+    }
+
+    private void rollover(LocalDate takingDate, String lockName) {
+        // 최초 실행 시각(다음 날 02시) 이후 등록된 복용 관리는 제외
+        LocalDateTime cutoff = takingDate.plusDays(1).atTime(ROLLOVER_START_TIME);
+        long firstId = historyRolloverRepository.findLastRolledOverId(takingDate);
+        long lastId = firstId;
+        long inserted = 0;
+
+        while (true) {
+            List<Long> managementIds = historyRolloverRepository.findManagementIds(takingDate, cutoff, lastId, CHUNK_SIZE);
+            if (managementIds.isEmpty()) {
+                break;
+            }
+            if (!distributedLock.renew(lockName, HISTORY_LOCK_LEASE)) {
+                log.warn("History rollover for {} stopped: lock lease lost at managementId={}", takingDate, lastId);
+                break;
+            }
+
+            // 기록 생성과 복용 여부 초기화를 한 트랜잭션으로 처리 (이미 기록이 생성된 행은 초기화하지 않음)
+            Integer count = transactionTemplate.execute(status -> {
+                historyRolloverRepository.lockManagements(managementIds);
+                List<Long> pendingIds = new ArrayList<>(managementIds);
+                pendingIds.removeAll(historyRolloverRepository.findRolledOverIds(takingDate, managementIds));
+                if (pendingIds.isEmpty()) {
+                    return 0;
+                }
+
+                int insertedCount = historyRolloverRepository.insertHistories(takingDate, pendingIds);
+                historyRolloverRepository.resetTaking(pendingIds);
+                return insertedCount;
+            });
+
+            inserted += count == null ? 0 : count;
+            lastId = managementIds.get(managementIds.size() - 1);
+        }
+
+        // 복용 여부가 초기화되었으므로 캐싱된 오늘 복용 정보 전체 제거
+        if (lastId > firstId) {
+            currentTakingCache.evictAll();
+        }
+
+        log.info("History rollover for {} completed: inserted={}, lastManagementId={}", takingDate, inserted, lastId);
     }
 }
@@ -11,9 +11,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +25,12 @@ import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
-@Table(name = "history")
+@Table(name = "history", indexes = {
+        @Index(name = "idx_history_member_date", columnList = "member_id, taking_date")
+}, uniqueConstraints = {
+        // 하루에 복용 관리 하나당 기록 하나 (여러 서버가 동시에 기록을 생성해도 중복되지 않도록 보장)
+        @UniqueConstraint(name = "uk_history_date_management", columnNames = {"taking_date", "management_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class History extends BaseEntity {
     @Id
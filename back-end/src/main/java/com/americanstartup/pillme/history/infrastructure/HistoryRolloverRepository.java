@@ -0,0 +1,123 @@
+package com.americanstartup.pillme.history.infrastructure;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/*
+ * 복용 기록(history) 일괄 생성을 위한 JDBC 쿼리
+ * 엔티티를 조회하지 않고 DB 안에서 INSERT ... SELECT / 일괄 UPDATE 로 처리
+ * */
+@Repository
+@RequiredArgsConstructor
+public class HistoryRolloverRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 해당 날짜의 복용 기록이 이미 생성된 마지막 복용 관리 id (중단된 작업을 이어서 진행하기 위해 사용)
+    private static final String FIND_LAST_ROLLED_OVER_ID = """
+            SELECT COALESCE(MAX(h.management_id), 0)
+            FROM history h
+            WHERE h.taking_date = :takingDate
+            """;
+
+    // 해당 날짜에 복용 중이던 복용 관리 id를 id 순으로 조회 (keyset pagination)
+    // 작업 시작 이후 등록된 복용 관리는 다시 실행되더라도 포함하지 않도록 cutoff 이전에 생성된 것만 조회
+    private static final String FIND_MANAGEMENT_IDS = """
+            SELECT m.id
+            FROM management m
+            JOIN information i ON i.id = m.information_id
+            WHERE :takingDate BETWEEN i.start_date AND i.end_date
+              AND i.requested = false
+              AND m.deleted = false
+              AND m.created_at < :cutoff
+              AND m.id > :lastId
+            ORDER BY m.id
+            LIMIT :limit
+            """;
+
+    // 청크의 복용 관리 행 잠금 (다른 서버가 같은 청크를 처리 중이면 커밋될 때까지 대기)
+    private static final String LOCK_MANAGEMENTS = """
+            SELECT m.id
+            FROM management m
+            WHERE m.id IN (:managementIds)
+            ORDER BY m.id
+            FOR UPDATE
+            """;
+
+    // 청크 중 해당 날짜의 복용 기록이 이미 생성된 복용 관리 id
+    private static final String FIND_ROLLED_OVER_IDS = """
+            SELECT h.management_id
+            FROM history h
+            WHERE h.taking_date = :takingDate
+              AND h.management_id IN (:managementIds)
+            """;
+
+    // 복용 관리 정보로 복용 기록 생성 (이미 생성된 기록은 건너뜀, (taking_date, management_id) 유니크 키로 중복 방지)
+    private static final String INSERT_HISTORIES = """
+            INSERT INTO history (management_id, member_id, information_id, taking_date,
+                                 morning, lunch, dinner, sleep,
+                                 morning_taking, lunch_taking, dinner_taking, sleep_taking,
+                                 created_at, modified_at, deleted)
+            SELECT m.id, i.reader, i.id, :takingDate,
+                   m.morning, m.lunch, m.dinner, m.sleep,
+                   m.morning_taking, m.lunch_taking, m.dinner_taking, m.sleep_taking,
+                   NOW(), NOW(), false
+            FROM management m
+            JOIN information i ON i.id = m.information_id
+            WHERE m.id IN (:managementIds)
+              AND NOT EXISTS (SELECT 1
+                              FROM history h
+                              WHERE h.management_id = m.id
+                                AND h.taking_date = :takingDate)
+            """;
+
+    // 복용 여부 초기화
+    private static final String RESET_TAKING = """
+            UPDATE management
+            SET morning_taking = false,
+                lunch_taking   = false,
+                dinner_taking  = false,
+                sleep_taking   = false,
+                modified_at    = NOW()
+            WHERE id IN (:managementIds)
+            """;
+
+    public long findLastRolledOverId(LocalDate takingDate) {
+        Long lastId = jdbcTemplate.queryForObject(FIND_LAST_ROLLED_OVER_ID,
+                Map.of("takingDate", takingDate), Long.class);
+        return lastId == null ? 0 : lastId;
+    }
+
+    public List<Long> findManagementIds(LocalDate takingDate, LocalDateTime cutoff, long lastId, int limit) {
+        return jdbcTemplate.queryForList(FIND_MANAGEMENT_IDS, new MapSqlParameterSource()
+                .addValue("takingDate", takingDate)
+                .addValue("cutoff", cutoff)
+                .addValue("lastId", lastId)
+                .addValue("limit", limit), Long.class);
+    }
+
+    public void lockManagements(List<Long> managementIds) {
+        jdbcTemplate.queryForList(LOCK_MANAGEMENTS, Map.of("managementIds", managementIds), Long.class);
+    }
+
+    public List<Long> findRolledOverIds(LocalDate takingDate, List<Long> managementIds) {
+        return jdbcTemplate.queryForList(FIND_ROLLED_OVER_IDS, new MapSqlParameterSource()
+                .addValue("takingDate", takingDate)
+                .addValue("managementIds", managementIds), Long.class);
+    }
+
+    public int insertHistories(LocalDate takingDate, List<Long> managementIds) {
+        return jdbcTemplate.update(INSERT_HISTORIES, new MapSqlParameterSource()
+                .addValue("takingDate", takingDate)
+                .addValue("managementIds", managementIds));
+    }
+
+    public int resetTaking(List<Long> managementIds) {
+        return jdbcTemplate.update(RESET_TAKING, Map.of("managementIds", managementIds));
+    }
+}
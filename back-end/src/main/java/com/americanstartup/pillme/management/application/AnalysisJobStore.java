@@ -0,0 +1,93 @@
+package com.americanstartup.pillme.management.application;
+
+import com.americanstartup.pillme.management.domain.item.AnalysisJobItem;
+import com.americanstartup.pillme.management.domain.type.AnalysisJobStatus;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 처방전 분석 작업 상태 (Redis Hash, analysis_job:{작업 id})
+ * - 분석 요청을 받은 서버와 상태를 조회하는 서버가 다를 수 있으므로 Redis에 저장
+ * - 완료 여부와 관계없이 TTL이 지나면 삭제 (상태를 변경할 때마다 TTL을 다시 설정하여,
+ *   만료된 뒤 상태만 다시 저장되어 TTL 없는 키가 남지 않도록 함)
+ * */
+@Component
+public class AnalysisJobStore {
+    private static final String JOB_PREFIX = "analysis_job:";
+    private static final String WRITER_FIELD = "writerId";
+    private static final String READER_FIELD = "readerId";
+    private static final String STATUS_FIELD = "status";
+    private static final String INFORMATION_FIELD = "informationId";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public AnalysisJobStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${prescription.analysis.job-ttl-hours:24}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    // 대기 상태의 작업 생성
+    public AnalysisJobItem create(Long writerId, Long readerId) {
+        String jobId = UUID.randomUUID().toString();
+        String key = JOB_PREFIX + jobId;
+        hashOperations().putAll(key, Map.of(
+                WRITER_FIELD, writerId.toString(),
+                READER_FIELD, readerId.toString(),
+                STATUS_FIELD, AnalysisJobStatus.QUEUED.name()
+        ));
+        redisTemplate.expire(key, ttl);
+        return new AnalysisJobItem(jobId, writerId, readerId, AnalysisJobStatus.QUEUED, null);
+    }
+
+    public void running(String jobId) {
+        update(jobId, Map.of(STATUS_FIELD, AnalysisJobStatus.RUNNING.name()));
+    }
+
+    public void done(String jobId, Long informationId) {
+        update(jobId, Map.of(
+                STATUS_FIELD, AnalysisJobStatus.DONE.name(),
+                INFORMATION_FIELD, informationId.toString()
+        ));
+    }
+
+    public void failed(String jobId) {
+        update(jobId, Map.of(STATUS_FIELD, AnalysisJobStatus.FAILED.name()));
+    }
+
+    private void update(String jobId, Map<String, String> fields) {
+        String key = JOB_PREFIX + jobId;
+        hashOperations().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+
+    public Optional<AnalysisJobItem> find(String jobId) {
+        List<String> values = hashOperations().multiGet(JOB_PREFIX + jobId,
+                List.of(WRITER_FIELD, READER_FIELD, STATUS_FIELD, INFORMATION_FIELD));
+        if (values.get(2) == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AnalysisJobItem(
+                jobId,
+                Long.valueOf(values.get(0)),
+                Long.valueOf(values.get(1)),
+                AnalysisJobStatus.valueOf(values.get(2)),
+                values.get(3) == null ? null : Long.valueOf(values.get(3))
+        ));
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return redisTemplate.opsForHash();
+    }
+}
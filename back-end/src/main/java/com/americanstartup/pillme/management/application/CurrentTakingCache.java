@@ -0,0 +1,122 @@
+package com.americanstartup.pillme.management.application;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.management.domain.item.TakingInformationItem;
+import com.americanstartup.pillme.management.infrastructure.ManagementRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 회원별 오늘 복용 정보 캐시 (서버 로컬 캐시)
+ * - 홈 화면, 보호자 알림 스케줄러에서 같은 회원의 오늘 복용 정보를 반복해서 조회하므로 하루 단위로 캐싱
+ * - 자정이 지나면 만료 (복용 기간이 날짜 기준이므로)
+ * - 복용 정보가 변경되면 커밋 이후 evict를 호출하여 모든 서버의 로컬 캐시를 무효화
+ * */
+@Component
+public class CurrentTakingCache {
+    private static final String CACHE_NAME = "currentTaking";
+    private static final String ALL_KEYS = "*";
+
+    private final ManagementRepository managementRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<Long, List<TakingInformationItem>> localCache;
+
+    public CurrentTakingCache(
+            ManagementRepository managementRepository,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${current-taking-cache.maximum-size:100000}") long maximumSize
+    ) {
+        this.managementRepository = managementRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilMidnight())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        // 다른 서버에서 복용 정보가 변경된 경우 로컬 캐시 무효화
+        cacheInvalidationBus.register(CACHE_NAME, key -> {
+            if (ALL_KEYS.equals(key)) {
+                localCache.invalidateAll();
+                return;
+            }
+            localCache.invalidate(Long.valueOf(key));
+        });
+    }
+
+    // 회원의 오늘 복용 정보 조회
+    public List<TakingInformationItem> get(Long readerId) {
+        return localCache.get(readerId, id -> loadAll(Set.of(id)).get(id));
+    }
+
+    // 여러 회원의 오늘 복용 정보 조회 (캐시에 없는 회원들만 한 번에 조회)
+    public Map<Long, List<TakingInformationItem>> getAll(Collection<Long> readerIds) {
+        return localCache.getAll(readerIds, this::loadAll);
+    }
+
+    // 모든 서버의 로컬 캐시에서 회원의 오늘 복용 정보 제거
+    public void evict(Long readerId) {
+        localCache.invalidate(readerId);
+        cacheInvalidationBus.publish(CACHE_NAME, readerId.toString());
+    }
+
+    // 복용 여부가 일괄 초기화된 경우 모든 서버의 로컬 캐시 전체 제거
+    public void evictAll() {
+        localCache.invalidateAll();
+        cacheInvalidationBus.publish(CACHE_NAME, ALL_KEYS);
+    }
+
+    // 복용 정보가 없는 회원도 빈 목록으로 캐싱
+    private Map<Long, List<TakingInformationItem>> loadAll(Set<? extends Long> readerIds) {
+        Map<Long, List<TakingInformationItem>> loaded = managementRepository
+                .findManagementsByInformationDateAndReaderIdInFetch(List.copyOf(readerIds))
+                .stream()
+                .collect(Collectors.groupingBy(
+                        management -> management.getInformation().getReader().getId(),
+                        Collectors.mapping(TakingInformationItem::from, Collectors.toList())
+                ));
+
+        return readerIds.stream()
+                .collect(Collectors.toMap(
+                        id -> id,
+                        id -> List.copyOf(loaded.getOrDefault(id, List.of()))
+                ));
+    }
+
+    // 저장된 시점부터 다음 날 자정까지 유지 (조회/갱신 시에는 남은 시간 유지)
+    private static class UntilMidnight implements Expiry<Long, List<TakingInformationItem>> {
+        @Override
+        public long expireAfterCreate(Long key, List<TakingInformationItem> value, long currentTime) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay();
+            return Duration.between(now, midnight).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, List<TakingInformationItem> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, List<TakingInformationItem> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,24 +1,23 @@
 package com.americanstartup.pillme.management.application;
 
-import static com.americanstartup.pillme.global.code.ErrorCode.ANALYZE_ERROR;
 import static com.americanstartup.pillme.global.code.ErrorCode.INFORMATION_NOT_FOUND;
 import static com.americanstartup.pillme.global.code.ErrorCode.INVALID_TIME_REQUEST;
 import static com.americanstartup.pillme.global.code.ErrorCode.MANAGEMENT_NOT_FOUND;
 import static com.americanstartup.pillme.global.code.ErrorCode.MEMBER_NOT_PROTECTOR;
 import static com.americanstartup.pillme.global.code.ErrorCode.MEMBER_NOT_READER;
 import static com.americanstartup.pillme.global.code.ErrorCode.MEMBER_NOT_WRITER;
-import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 
 import com.americanstartup.pillme.auth.application.service.AuthService;
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.dependency.application.service.DependencyService;
-import com.americanstartup.pillme.management.application.exception.AnalyzeProcessingException;
+import com.americanstartup.pillme.global.util.TransactionUtil;
 import com.americanstartup.pillme.management.application.exception.InvalidTimeSelectException;
 import com.americanstartup.pillme.management.application.exception.MemberIsNotReaderException;
 import com.americanstartup.pillme.management.application.exception.MemberIsNotWriterException;
 import com.americanstartup.pillme.management.application.exception.NoInformationException;
 import com.americanstartup.pillme.management.application.exception.NoManagementException;
 import com.americanstartup.pillme.management.application.exception.NotProtectorException;
+import com.americanstartup.pillme.management.application.response.BulkTakingCheckResponse;
 import com.americanstartup.pillme.management.application.response.CurrentTakingResponse;
 import com.americanstartup.pillme.management.application.response.TakingDetailResponse;
 import com.americanstartup.pillme.management.application.response.TakingPrescriptionResponse;
@@ -27,6 +26,7 @@ import com.americanstartup.pillme.management.domain.Information;
 import com.americanstartup.pillme.management.domain.Management;
 import com.americanstartup.pillme.management.domain.PrescriptionRequestResult;
 import com.americanstartup.pillme.management.domain.item.ChangeManagementItem;
+import com.americanstartup.pillme.management.domain.item.TakingCheckItem;
 import com.americanstartup.pillme.management.domain.item.TakingInformationItem;
 import com.americanstartup.pillme.management.domain.item.TakingSettingItem;
 import com.americanstartup.pillme.management.domain.type.TakingType;
@@ -34,30 +34,22 @@ import com.americanstartup.pillme.management.infrastructure.InformationRepositor
 import com.americanstartup.pillme.management.infrastructure.ManagementRepository;
 import com.americanstartup.pillme.management.presentation.request.AddTakingInformationRequest;
 import com.americanstartup.pillme.management.presentation.request.AllTakingCheckRequest;
-import com.americanstartup.pillme.management.presentation.request.AnalyzeImageRequest;
+import com.americanstartup.pillme.management.presentation.request.BulkTakingCheckRequest;
 import com.americanstartup.pillme.management.presentation.request.ChangeTakingInformationRequest;
 import com.americanstartup.pillme.management.presentation.request.CheckCurrentTakingRequest;
 import com.americanstartup.pillme.management.presentation.request.DeleteManagementRequest;
 import com.americanstartup.pillme.management.presentation.request.SingleTakingCheckRequest;
 import com.americanstartup.pillme.management.presentation.request.TakingInformationRegisterRequest;
 import com.americanstartup.pillme.notification.application.service.NotificationService;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -68,80 +60,51 @@ public class ManagementService {
     private final AuthService authService;
     private final NotificationService notificationService;
     private final DependencyService dependencyService;
-    private final WebClient.Builder webClientBuilder;
+    private final CurrentTakingCache currentTakingCache;
 
-    // fastapi 요청
-    public void requestToFastApi(
-            final MultipartFile file,
-            final AnalyzeImageRequest request,
-            final Member writer
+    // 처방전 분석 요청 확인 (다른 회원의 처방전은 보호자인 경우에만 분석 가능)
+    @Transactional(readOnly = true)
+    public void checkAnalyzeTarget(
+            final Member writer,
+            final Long readerId
     ) {
-        WebClient webClient = buildWebClient();
-
-        try {
-            // 파일을 임시 디렉토리에 저장
-            Path tempFile = Files.createTempFile("upload-", "-" + file.getOriginalFilename());
-            file.transferTo(tempFile.toFile());
-
-            FileSystemResource fileResource = new FileSystemResource(tempFile.toFile());
-            Member reader = authService.findById(request.readerId());
-
-            Mono<List<PrescriptionRequestResult>> analyzeResult = webClient
-                    .post()
-                    .uri("/prescription")
-                    .contentType(MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file", fileResource))
-                    .retrieve()
-                    .bodyToFlux(PrescriptionRequestResult.class)
-                    .collectList();
-            processRequestResult(analyzeResult, reader, writer);
-        } catch (IOException e) {
-            throw new AnalyzeProcessingException(ANALYZE_ERROR);
+        if (!writer.getId().equals(readerId)) {
+            checkProtector(writer, authService.findById(readerId));
         }
     }
 
-    private void processRequestResult(
-            final Mono<List<PrescriptionRequestResult>> result,
-            final Member reader,
-            final Member writer
+    // 처방전 분석 결과 저장 (분석 작업 스레드에서 호출)
+    public Information saveAnalysisResult(
+            final Long writerId,
+            final Long readerId,
+            final List<PrescriptionRequestResult> results
     ) {
-        result.subscribe(prescriptionRequestResult -> {
-            List<Management> managements = prescriptionRequestResult.stream()
-                    .map(PrescriptionRequestResult::toManagement)
-                    .toList();
-
-            Information notUsedEntity = Information.builder()
-                    .reader(reader)
-                    .writer(writer)
-                    .diseaseName("NOT_COMPLETED")
-                    .build();
-
-            if (!writer.getId().equals(reader.getId())) {
-                if (!dependencyService.isDependencyExist(writer, reader)) {
-                    throw new NotProtectorException(MEMBER_NOT_PROTECTOR);
-                }
-                notificationService.sendTakingInformationNotification(writer, reader,
-                        notUsedEntity.getDiseaseName());
-                notUsedEntity.requested();
-                informationRepository.save(notUsedEntity);
-                managementRepository.saveAll(managements);
+        Member reader = authService.findById(readerId);
+        Member writer = authService.findById(writerId);
 
-                return;
-            }
+        Information information = Information.builder()
+                .reader(reader)
+                .writer(writer)
+                .diseaseName("NOT_COMPLETED")
+                .build();
 
-            informationRepository.save(notUsedEntity);
-            managementRepository.saveAll(managements);
-        });
-    }
+        // 보호자가 분석한 경우 복약자에게 등록 요청
+        if (!writer.getId().equals(reader.getId())) {
+            checkProtector(writer, reader);
+            TransactionUtil.runAfterCommit(() ->
+                    notificationService.sendTakingInformationNotification(writer, reader, information.getDiseaseName()));
+            information.requested();
+        }
 
-    private WebClient buildWebClient() {
-        return webClientBuilder
-                .baseUrl("https://i12a606.p.ssafy.io")
-                .defaultHeaders(
-                        httpHeaders ->
-                                httpHeaders.add(HttpHeaders.CONTENT_TYPE, "multipart/form-data")
-                )
-                .build();
+        informationRepository.save(information);
+        managementRepository.saveAll(results.stream()
+                .map(result -> result.toManagement(information))
+                .toList());
+        evictCurrentTaking(reader.getId());
+
+        // 알림 전송이 트랜잭션을 붙잡지 않고, 롤백된 결과에 대해 알림이 가지 않도록 커밋 후 전송
+        TransactionUtil.runAfterCommit(() -> notificationService.sendAnalysisCompleteNotification(writer));
+        return information;
     }
 
     // 새로운 복약 정보 저장
@@ -166,6 +129,7 @@ public class ManagementService {
         for (TakingSettingItem medication : request.medications()) {
             saveManagement(medication, information);
         }
+        evictCurrentTaking(reader.getId());
 
         return information;
     }
@@ -181,6 +145,7 @@ public class ManagementService {
         // 이 부분 조금 더 고민해봐야 함 (요구사항 명세서에 약물 삭제 요청이 있는데 고려를 안함)
         checkWriterValidation(member, information);
         saveManagement(request.toItem(), information);
+        evictCurrentTaking(information.getReader().getId());
         return information;
     }
 
@@ -200,6 +165,7 @@ public class ManagementService {
         Information requestedInformation = findRequestedInformation(reader.getId());
 
         requestedInformation.requestComplete();
+        evictCurrentTaking(reader.getId());
 
         notificationService.sendTakingInformationAcceptNotification(reader, writer,
                 requestedInformation.getDiseaseName());
@@ -220,6 +186,7 @@ public class ManagementService {
                 requestedInformation.getDiseaseName());
         managementRepository.deleteAll(requestedManagements);
         informationRepository.delete(requestedInformation);
+        evictCurrentTaking(writerId);
     }
 
     @Transactional(readOnly = true)
@@ -242,7 +209,7 @@ public class ManagementService {
     @Transactional(readOnly = true)
     public List<CurrentTakingResponse> selectManagementByDate(
             final Long memberId) {
-        return managementRepository.findManagementsByInformationDateAndReaderIdFetch(memberId)
+        return currentTakingCache.get(memberId)
                 .stream()
                 .map(CurrentTakingResponse::from)
                 .collect(Collectors.toList());
@@ -253,8 +220,9 @@ public class ManagementService {
             final Long targetId,
             final LocalDate date
     ) {
+        YearMonth month = YearMonth.from(date != null ? date : LocalDate.now());
         List<Information> currentInformation = informationRepository
-                .findAllByDate(targetId, date != null ? date : LocalDate.now());
+                .findAllByDate(targetId, month.atDay(1), month.atEndOfMonth());
         Member targetMember = authService.findById(targetId);
 
         return currentInformation
@@ -268,17 +236,19 @@ public class ManagementService {
     public List<TakingInformationItem> selectCurrentTakingInformationList(
             final Member member
     ) {
-        List<Management> managements = managementRepository
-                .findManagementsByInformationDateAndReaderIdFetch(member.getId());
-
-        return managements.stream()
-                .map(TakingInformationItem::from)
-                .collect(Collectors.toList());
+        return currentTakingCache.get(member.getId());
     }
 
+    // 여러 회원의 오늘 복용 정보를 조회하여 회원 id 별로 그룹화 (캐시에 없는 회원들만 한 번의 쿼리로 조회)
     @Transactional(readOnly = true)
-    public List<Management> selectYesterdayManagementList() {
-        return managementRepository.findYesterdayManagements();
+    public Map<Long, List<TakingInformationItem>> selectCurrentTakingInformationMap(
+            final List<Long> readerIds
+    ) {
+        if (readerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return currentTakingCache.getAll(readerIds);
     }
 
     public TakingDetailResponse changeTakingInformation(
@@ -297,6 +267,7 @@ public class ManagementService {
         Map<Long, Management> managementMap = getManagementMap(managements);
 
         checkWriterValidation(member, managements.get(0).getInformation());
+        evictCurrentTaking(information.getReader().getId());
 
         return TakingDetailResponse.of(
                 information,
@@ -334,6 +305,7 @@ public class ManagementService {
 
         checkReaderValidation(member, management.getInformation());
         checkMedicationTaking(management, request.time());
+        evictCurrentTaking(member.getId());
     }
 
     public void checkAllMedicationTaking(
@@ -341,28 +313,65 @@ public class ManagementService {
             final AllTakingCheckRequest request,
             final Member member
     ) {
-        List<Management> managements = managementRepository.
-                findManagementsByInformationIdAndReaderIdFetch(infoId, member.getId());
+        checkTimeSelected(request.time());
+        long updated = managementRepository.toggleTaking(member.getId(), infoId, request.time());
 
-        if (managements.isEmpty()) {
+        // 변경된 복약 정보가 없다면 해당 시간 복용이 없는 경우인지, 처방전이 없는 경우인지 확인
+        if (updated == 0 && managementRepository
+                .findManagementsByInformationIdAndReaderIdFetch(infoId, member.getId()).isEmpty()) {
             throw new NoManagementException(MANAGEMENT_NOT_FOUND);
         }
-
-        checkReaderValidation(member, managements.get(0).getInformation());
-
-        managements.forEach(management -> checkMedicationTaking(management, request.time()));
+        evictCurrentTaking(member.getId());
     }
 
     public void checkCurrentTakingAll(
             final CheckCurrentTakingRequest request,
             final Member member
     ) {
-        List<Management> managements = managementRepository
-                .findManagementsByInformationDateAndReaderIdFetch(member.getId());
+        checkTimeSelected(request.time());
+        managementRepository.updateCurrentTaking(member.getId(), request.time(), true);
+        evictCurrentTaking(member.getId());
+    }
+
+    // 복용 여부 일괄 변경 (복용 시간, 복용 여부별로 UPDATE 한 번씩 실행)
+    public BulkTakingCheckResponse checkMedicationTakingBulk(
+            final BulkTakingCheckRequest request,
+            final Member member
+    ) {
+        Long readerId = request.readerId() != null ? request.readerId() : member.getId();
+        checkReaderOrProtector(member, readerId);
+
+        long updated = 0;
+        if (request.hasChecks()) {
+            for (TakingCheckItem check : request.checks()) {
+                checkTimeSelected(check.time());
+            }
 
-        for (Management management : managements) {
-            checkAllMedicationTaking(management, request.time());
+            Map<TakingType, Map<Boolean, List<Long>>> groups = request.checks()
+                    .stream()
+                    .collect(Collectors.groupingBy(
+                            TakingCheckItem::time,
+                            Collectors.partitioningBy(
+                                    TakingCheckItem::taking,
+                                    Collectors.mapping(TakingCheckItem::managementId, Collectors.toList())
+                            )
+                    ));
+
+            for (Map.Entry<TakingType, Map<Boolean, List<Long>>> group : groups.entrySet()) {
+                for (Map.Entry<Boolean, List<Long>> state : group.getValue().entrySet()) {
+                    if (!state.getValue().isEmpty()) {
+                        updated += managementRepository
+                                .updateTaking(readerId, state.getValue(), group.getKey(), state.getKey());
+                    }
+                }
+            }
+        } else {
+            checkTimeSelected(request.time());
+            updated = managementRepository.updateCurrentTaking(readerId, request.time(), request.takingOrDefault());
         }
+
+        evictCurrentTaking(readerId);
+        return new BulkTakingCheckResponse(updated);
     }
 
     private void checkMedicationTaking(final Management management, TakingType time) {
@@ -375,13 +384,9 @@ public class ManagementService {
         }
     }
 
-    private void checkAllMedicationTaking(final Management management, TakingType time) {
-        switch (time) {
-            case MORNING -> management.checkMorningTaking();
-            case LUNCH -> management.checkLunchTaking();
-            case DINNER -> management.checkDinnerTaking();
-            case SLEEP -> management.checkSleepTaking();
-            default -> throw new InvalidTimeSelectException(INVALID_TIME_REQUEST);
+    private void checkTimeSelected(final TakingType time) {
+        if (time == null) {
+            throw new InvalidTimeSelectException(INVALID_TIME_REQUEST);
         }
     }
 
@@ -391,6 +396,7 @@ public class ManagementService {
             final Member member) {
         Information information = findInformationById(infoId);
         Member writer = information.getWriter();
+        evictCurrentTaking(information.getReader().getId());
 
         try {
 //            checkWriterValidation(member, information);
@@ -436,6 +442,7 @@ public class ManagementService {
                 );
 
         managements.forEach(Management::delete);
+        evictCurrentTaking(readerId);
         notificationService
                 .sendTakingInformationDeleteAcceptNotification(
                         writer,
@@ -450,6 +457,7 @@ public class ManagementService {
     ) {
         Information requestedInformation = findRequestedInformation(readerId);
         requestedInformation.requestComplete();
+        evictCurrentTaking(readerId);
         notificationService
                 .sendTakingInformationDeleteRejectNotification(
                         writer,
@@ -458,6 +466,11 @@ public class ManagementService {
                 );
     }
 
+    // 오늘 복용 정보가 바뀌었으므로 커밋 이후 캐시 무효화
+    private void evictCurrentTaking(final Long readerId) {
+        TransactionUtil.runAfterCommit(() -> currentTakingCache.evict(readerId));
+    }
+
     private void checkWriterValidation(
             final Member member,
             final Information information
@@ -476,6 +489,30 @@ public class ManagementService {
         }
     }
 
+    // 본인이거나 보호자인 경우에만 복용 여부 변경 가능
+    private void checkReaderOrProtector(
+            final Member member,
+            final Long readerId
+    ) {
+        if (member.getId().equals(readerId)) {
+            return;
+        }
+
+        Member reader = authService.findById(readerId);
+        if (!dependencyService.isDependencyExist(member, reader)) {
+            throw new MemberIsNotReaderException(MEMBER_NOT_READER);
+        }
+    }
+
+    private void checkProtector(
+            final Member writer,
+            final Member reader
+    ) {
+        if (!dependencyService.isDependencyExist(writer, reader)) {
+            throw new NotProtectorException(MEMBER_NOT_PROTECTOR);
+        }
+    }
+
     private Information findInformationById(final Long infoId) {
         return informationRepository.findByIdMemberFetchJoin(infoId)
                 .orElseThrow(() -> new NoInformationException(INFORMATION_NOT_FOUND));
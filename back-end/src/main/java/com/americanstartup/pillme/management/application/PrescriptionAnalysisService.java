@@ -0,0 +1,171 @@
+package com.americanstartup.pillme.management.application;
+
+import static com.americanstartup.pillme.global.code.ErrorCode.ANALYSIS_JOB_NOT_FOUND;
+import static com.americanstartup.pillme.global.code.ErrorCode.ANALYZE_ERROR;
+
+import com.americanstartup.pillme.auth.domain.entity.Member;
+import com.americanstartup.pillme.management.application.exception.AnalyzeProcessingException;
+import com.americanstartup.pillme.management.application.exception.NoAnalysisJobException;
+import com.americanstartup.pillme.management.application.response.AnalysisJobResponse;
+import com.americanstartup.pillme.management.domain.Information;
+import com.americanstartup.pillme.management.domain.PrescriptionRequestResult;
+import com.americanstartup.pillme.management.domain.item.AnalysisJobItem;
+import com.americanstartup.pillme.management.domain.item.PrescriptionImageItem;
+import com.americanstartup.pillme.management.infrastructure.PrescriptionAnalyzeClient;
+import com.americanstartup.pillme.management.presentation.request.AnalyzeImageRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+ * 처방전 분석 작업
+ * - 요청 스레드에서는 업로드된 이미지를 메모리로 읽고 작업을 등록한 뒤 작업 id를 바로 반환
+ * - 이미지 전처리(축소), 분석(FastAPI 호출)과 결과 저장은 크기가 제한된 작업 스레드 풀에서 처리하고, 대기열이 가득 차면 요청을 거절
+ * - 메모리에 올려 둔 이미지의 전체 크기도 max-queued-mb로 제한하여, 넘는 경우 이미지를 읽기 전에 요청을 거절
+ * - 결과는 ManagementService의 트랜잭션 안에서 저장하고, 커밋된 뒤 분석 완료 알림을 전송
+ * - 작업 상태(대기/분석 중/완료/실패)는 AnalysisJobStore에 저장하여 어느 서버에서든 조회 가능
+ * */
+@Slf4j
+@Service
+public class PrescriptionAnalysisService {
+    private final ManagementService managementService;
+    private final PrescriptionAnalyzeClient prescriptionAnalyzeClient;
+    private final PrescriptionImageProcessor prescriptionImageProcessor;
+    private final AnalysisJobStore analysisJobStore;
+    private final ThreadPoolExecutor executor;
+    // 대기 중이거나 처리 중인 작업의 이미지 크기 제한 (KB 단위 허가)
+    private final Semaphore queuedKilobytes;
+    private final Counter doneCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer analyzeTimer;
+
+    public PrescriptionAnalysisService(
+            ManagementService managementService,
+            PrescriptionAnalyzeClient prescriptionAnalyzeClient,
+            PrescriptionImageProcessor prescriptionImageProcessor,
+            AnalysisJobStore analysisJobStore,
+            MeterRegistry meterRegistry,
+            @Value("${prescription.analysis.workers:4}") int workers,
+            @Value("${prescription.analysis.queue-capacity:100}") int queueCapacity,
+            @Value("${prescription.analysis.max-queued-mb:256}") int maxQueuedMegabytes
+    ) {
+        this.managementService = managementService;
+        this.prescriptionAnalyzeClient = prescriptionAnalyzeClient;
+        this.prescriptionImageProcessor = prescriptionImageProcessor;
+        this.analysisJobStore = analysisJobStore;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "prescription-analysis-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        int maxQueuedKilobytes = Math.multiplyExact(maxQueuedMegabytes, 1024);
+        this.queuedKilobytes = new Semaphore(maxQueuedKilobytes);
+
+        this.doneCounter = meterRegistry.counter("prescription.analysis.job", "status", "done");
+        this.failedCounter = meterRegistry.counter("prescription.analysis.job", "status", "failed");
+        this.rejectedCounter = meterRegistry.counter("prescription.analysis.job", "status", "rejected");
+        this.analyzeTimer = meterRegistry.timer("prescription.analysis.request");
+        meterRegistry.gauge("prescription.analysis.queue.size", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("prescription.analysis.queue.bytes", queuedKilobytes,
+                permits -> (maxQueuedKilobytes - permits.availablePermits()) * 1024.0);
+    }
+
+    // 처방전 분석 작업 등록
+    public AnalysisJobResponse submit(
+            final MultipartFile image,
+            final AnalyzeImageRequest request,
+            final Member writer
+    ) {
+        managementService.checkAnalyzeTarget(writer, request.readerId());
+
+        // 이미지를 메모리로 읽기 전에 크기만큼 허가를 받음 (작업이 끝나면 반환)
+        int permits = toKilobytes(image.getSize());
+        if (!queuedKilobytes.tryAcquire(permits)) {
+            rejectedCounter.increment();
+            throw new AnalyzeProcessingException(ANALYZE_ERROR);
+        }
+
+        PrescriptionImageItem uploaded;
+        try {
+            uploaded = new PrescriptionImageItem(image.getBytes(), image.getOriginalFilename(), image.getContentType());
+        } catch (IOException e) {
+            queuedKilobytes.release(permits);
+            throw new AnalyzeProcessingException(ANALYZE_ERROR);
+        }
+
+        AnalysisJobItem job = analysisJobStore.create(writer.getId(), request.readerId());
+        try {
+            executor.execute(() -> {
+                try {
+                    run(job, uploaded);
+                } finally {
+                    queuedKilobytes.release(permits);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedKilobytes.release(permits);
+            rejectedCounter.increment();
+            analysisJobStore.failed(job.jobId());
+            throw new AnalyzeProcessingException(ANALYZE_ERROR);
+        }
+        return AnalysisJobResponse.from(job);
+    }
+
+    // 이미지 크기를 KB 단위 허가 수로 변환 (최소 1, 올림)
+    private int toKilobytes(long size) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (size + 1023) / 1024));
+    }
+
+    // 처방전 분석 작업 상태 조회 (요청한 회원만 조회 가능)
+    public AnalysisJobResponse getJob(
+            final String jobId,
+            final Member member
+    ) {
+        return analysisJobStore.find(jobId)
+                .filter(job -> job.writerId().equals(member.getId()))
+                .map(AnalysisJobResponse::from)
+                .orElseThrow(() -> new NoAnalysisJobException(ANALYSIS_JOB_NOT_FOUND));
+    }
+
+    private void run(AnalysisJobItem job, PrescriptionImageItem image) {
+        try {
+            analysisJobStore.running(job.jobId());
+            PrescriptionImageItem processed = prescriptionImageProcessor.process(image);
+            List<PrescriptionRequestResult> results = analyzeTimer.record(() -> prescriptionAnalyzeClient.analyze(
+                    processed.content(), processed.filename(), processed.contentType()));
+
+            Information information = managementService.saveAnalysisResult(
+                    job.writerId(), job.readerId(), results != null ? results : List.of());
+            analysisJobStore.done(job.jobId(), information.getId());
+            doneCounter.increment();
+        } catch (RuntimeException e) {
+            log.error("Prescription analysis job {} failed: {}", job.jobId(), e.getMessage());
+            analysisJobStore.failed(job.jobId());
+            failedCounter.increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,267 @@
+package com.americanstartup.pillme.management.application;
+
+import com.americanstartup.pillme.management.domain.item.PrescriptionImageItem;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 처방전 이미지 전처리 (분석 서버로 보내기 전에 크기를 줄임)
+ * - 휴대폰 사진(8 ~ 12MB)은 OCR에 필요한 해상도보다 훨씬 크므로 긴 변을 max-long-edge 이하로 축소
+ * - 아주 큰 이미지는 디코딩할 때부터 픽셀을 건너뛰며(subsampling) 읽어 메모리 사용량을 줄임
+ * - EXIF 방향 정보에 맞게 회전하고, 축소/회전/흑백 변환을 한 번에 그린 뒤 JPEG 또는 PNG로 다시 인코딩
+ * - 임시 파일을 만들지 않도록 메모리 스트림만 사용
+ * - 읽을 수 없는 형식(HEIC 등)이거나 결과가 원본보다 크면 원본을 그대로 사용
+ * */
+@Slf4j
+@Component
+public class PrescriptionImageProcessor {
+    private static final int DEFAULT_ORIENTATION = 1;
+
+    private final boolean enabled;
+    private final int maxLongEdge;
+    private final boolean grayscale;
+    private final String format;
+    private final float jpegQuality;
+    private final DistributionSummary bytesIn;
+    private final DistributionSummary bytesOut;
+    private final Timer processTimer;
+
+    public PrescriptionImageProcessor(
+            MeterRegistry meterRegistry,
+            @Value("${prescription.image.enabled:true}") boolean enabled,
+            @Value("${prescription.image.max-long-edge:2048}") int maxLongEdge,
+            @Value("${prescription.image.grayscale:true}") boolean grayscale,
+            @Value("${prescription.image.format:jpeg}") String format,
+            @Value("${prescription.image.jpeg-quality:0.85}") float jpegQuality
+    ) {
+        this.enabled = enabled;
+        this.maxLongEdge = maxLongEdge;
+        this.grayscale = grayscale;
+        this.format = format.toLowerCase(Locale.ROOT);
+        this.jpegQuality = jpegQuality;
+        this.bytesIn = DistributionSummary.builder("prescription.image.bytes")
+                .tag("stage", "in")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesOut = DistributionSummary.builder("prescription.image.bytes")
+                .tag("stage", "out")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.processTimer = meterRegistry.timer("prescription.image.process");
+    }
+
+    public PrescriptionImageItem process(PrescriptionImageItem image) {
+        bytesIn.record(image.content().length);
+        PrescriptionImageItem processed = enabled ? processTimer.record(() -> shrink(image)) : image;
+        bytesOut.record(processed.content().length);
+        return processed;
+    }
+
+    private PrescriptionImageItem shrink(PrescriptionImageItem image) {
+        try {
+            BufferedImage decoded = decode(image.content());
+            if (decoded == null) {
+                return image;
+            }
+
+            BufferedImage transformed = transform(decoded, exifOrientation(image.content()));
+            byte[] encoded = encode(transformed);
+            if (encoded.length >= image.content().length) {
+                return image;
+            }
+            return new PrescriptionImageItem(encoded, renamed(image.filename()), "image/" + format);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to pre-process prescription image, sending original: {}", e.getMessage());
+            return image;
+        }
+    }
+
+    // 긴 변이 max-long-edge의 2배를 넘는 만큼 픽셀을 건너뛰며 디코딩 (읽을 수 없는 형식이면 null)
+    private BufferedImage decode(byte[] content) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int period = Math.max(1, longEdge / (maxLongEdge * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(period, period, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 축소, EXIF 방향 회전, 흑백 변환을 한 번에 처리
+    private BufferedImage transform(BufferedImage source, int orientation) {
+        double scale = Math.min(1.0, (double) maxLongEdge / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean transposed = orientation >= 5 && orientation <= 8;
+
+        BufferedImage target = new BufferedImage(
+                transposed ? height : width,
+                transposed ? width : height,
+                grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB
+        );
+
+        AffineTransform transform = orientationTransform(orientation, width, height);
+        transform.scale((double) width / source.getWidth(), (double) height / source.getHeight());
+
+        Graphics2D graphics = target.createGraphics();
+        try {
+            // 투명한 부분(PNG)이 검게 변환되지 않도록 흰 배경을 먼저 채움
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // EXIF 방향(1 ~ 8)에 따라 축소된 이미지(width x height)를 똑바로 세우는 변환
+    private AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + format);
+        }
+
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed() && "jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private String renamed(String filename) {
+        String extension = "jpeg".equals(format) ? ".jpg" : "." + format;
+        if (filename == null) {
+            return "prescription" + extension;
+        }
+
+        int dot = filename.lastIndexOf('.');
+        return (dot > 0 ? filename.substring(0, dot) : filename) + extension;
+    }
+
+    // JPEG의 EXIF(APP1) 세그먼트에서 방향 값 조회 (없으면 1)
+    static int exifOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int marker = jpeg[offset + 1] & 0xFF;
+            int length = ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+            // 이미지 데이터 시작(SOS) 이후에는 EXIF가 없음
+            if (marker == 0xDA || length < 2) {
+                break;
+            }
+            if (marker == 0xE1 && isExif(jpeg, offset + 4)) {
+                return readOrientation(jpeg, offset + 10, offset + 2 + length);
+            }
+            offset += 2 + length;
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private static boolean isExif(byte[] jpeg, int offset) {
+        return offset + 6 <= jpeg.length
+                && jpeg[offset] == 'E' && jpeg[offset + 1] == 'x' && jpeg[offset + 2] == 'i' && jpeg[offset + 3] == 'f'
+                && jpeg[offset + 4] == 0 && jpeg[offset + 5] == 0;
+    }
+
+    // TIFF 헤더의 첫 번째 IFD에서 방향(0x0112) 태그 조회
+    private static int readOrientation(byte[] jpeg, int tiff, int end) {
+        if (tiff + 8 > Math.min(end, jpeg.length)) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        boolean littleEndian = jpeg[tiff] == 'I' && jpeg[tiff + 1] == 'I';
+        int ifd = tiff + readInt(jpeg, tiff + 4, littleEndian);
+        if (ifd + 2 > Math.min(end, jpeg.length)) {
+            return DEFAULT_ORIENTATION;
+        }
+
+        int entries = readShort(jpeg, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > Math.min(end, jpeg.length)) {
+                break;
+            }
+            if (readShort(jpeg, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(jpeg, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : DEFAULT_ORIENTATION;
+            }
+        }
+        return DEFAULT_ORIENTATION;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int first = bytes[offset] & 0xFF;
+        int second = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,10 @@
+package com.americanstartup.pillme.management.application.exception;
+
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.exception.CommonException;
+
+public class NoAnalysisJobException extends CommonException {
+    public NoAnalysisJobException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,14 @@
+package com.americanstartup.pillme.management.application.response;
+
+import com.americanstartup.pillme.management.domain.item.AnalysisJobItem;
+import com.americanstartup.pillme.management.domain.type.AnalysisJobStatus;
+
+public record AnalysisJobResponse(
+        String jobId,
+        AnalysisJobStatus status,
+        Long informationId
+) {
+    public static AnalysisJobResponse from(AnalysisJobItem job) {
+        return new AnalysisJobResponse(job.jobId(), job.status(), job.informationId());
+    }
+}
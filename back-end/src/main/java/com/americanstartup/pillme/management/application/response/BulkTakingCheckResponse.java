@@ -0,0 +1,6 @@
+package com.americanstartup.pillme.management.application.response;
+
+public record BulkTakingCheckResponse(
+        long updatedCount
+) {
+}
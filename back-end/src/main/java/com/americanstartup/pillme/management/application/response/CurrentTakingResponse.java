@@ -1,6 +1,7 @@
 package com.americanstartup.pillme.management.application.response;
 
 import com.americanstartup.pillme.management.domain.Management;
+import com.americanstartup.pillme.management.domain.item.TakingInformationItem;
 
 public record CurrentTakingResponse(
         Long managementId,
@@ -28,4 +29,19 @@ public record CurrentTakingResponse(
                 management.isSleepTaking()
         );
     }
+
+    public static CurrentTakingResponse from(final TakingInformationItem item) {
+        return new CurrentTakingResponse(
+                item.managementId(),
+                item.medicationName(),
+                item.morning(),
+                item.lunch(),
+                item.dinner(),
+                item.sleep(),
+                item.morningTaking(),
+                item.lunchTaking(),
+                item.dinnerTaking(),
+                item.sleepTaking()
+        );
+    }
 }
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "information")
+@Table(name = "information", indexes = {
+        @Index(name = "idx_information_reader_period",
+                columnList = "reader, deleted, requested, start_date, end_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Information extends BaseEntity {
     @Id
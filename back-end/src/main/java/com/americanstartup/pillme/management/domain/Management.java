@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,9 @@ import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
-@Table(name = "management")
+@Table(name = "management", indexes = {
+        @Index(name = "idx_management_information", columnList = "information_id, deleted")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Management extends BaseEntity {
     @Id
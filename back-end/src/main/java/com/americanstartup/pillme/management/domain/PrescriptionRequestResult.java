@@ -6,9 +6,10 @@ public record PrescriptionRequestResult(
         @JsonProperty(value = "matched_drug")
         String matchedDrug
 ) {
-    public Management toManagement() {
+    public Management toManagement(Information information) {
         return Management.builder()
                 .medicationName(this.matchedDrug)
+                .information(information)
                 .build();
     }
 }
@@ -0,0 +1,12 @@
+package com.americanstartup.pillme.management.domain.item;
+
+import com.americanstartup.pillme.management.domain.type.AnalysisJobStatus;
+
+public record AnalysisJobItem(
+        String jobId,
+        Long writerId,
+        Long readerId,
+        AnalysisJobStatus status,
+        Long informationId
+) {
+}
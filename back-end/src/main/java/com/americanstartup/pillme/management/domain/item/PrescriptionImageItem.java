@@ -0,0 +1,8 @@
+package com.americanstartup.pillme.management.domain.item;
+
+public record PrescriptionImageItem(
+        byte[] content,
+        String filename,
+        String contentType
+) {
+}
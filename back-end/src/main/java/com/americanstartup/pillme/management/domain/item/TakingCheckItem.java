@@ -0,0 +1,10 @@
+package com.americanstartup.pillme.management.domain.item;
+
+import com.americanstartup.pillme.management.domain.type.TakingType;
+
+public record TakingCheckItem(
+        Long managementId,
+        TakingType time,
+        boolean taking
+) {
+}
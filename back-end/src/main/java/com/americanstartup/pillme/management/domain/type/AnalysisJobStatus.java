@@ -0,0 +1,9 @@
+package com.americanstartup.pillme.management.domain.type;
+
+// 처방전 분석 작업 상태
+public enum AnalysisJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED,
+}
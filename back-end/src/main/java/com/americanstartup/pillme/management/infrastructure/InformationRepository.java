@@ -36,8 +36,8 @@ public interface InformationRepository extends JpaRepository<Information, Long>
             + "JOIN FETCH i.writer w "
             + "WHERE r.id = :readerId "
             + "AND NOT i.deleted AND NOT i.requested "
-            + "AND (FUNCTION('DATE_FORMAT', i.startDate, '%Y-%m') = FUNCTION('DATE_FORMAT', :date , '%Y-%m') "
-            + "OR FUNCTION('DATE_FORMAT', i.endDate, '%Y-%m') = FUNCTION('DATE_FORMAT', :date, '%Y-%m')) "
+            + "AND (i.startDate BETWEEN :monthStart AND :monthEnd "
+            + "OR i.endDate BETWEEN :monthStart AND :monthEnd) "
             + "ORDER BY i.startDate ASC")
-    List<Information> findAllByDate(Long readerId, LocalDate date);
+    List<Information> findAllByDate(Long readerId, LocalDate monthStart, LocalDate monthEnd);
 }
@@ -7,7 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ManagementRepository extends JpaRepository<Management, Long> {
+public interface ManagementRepository extends JpaRepository<Management, Long>, ManagementRepositoryCustom {
     @Query("SELECT m FROM Management m "
             + "JOIN FETCH m.information i "
             + "WHERE m.id IN :managementList "
@@ -20,6 +20,12 @@ public interface ManagementRepository extends JpaRepository<Management, Long> {
             + "WHERE r.id = :readerId AND CURRENT_DATE BETWEEN i.startDate AND i.endDate AND NOT m.deleted AND NOT i.requested")
     List<Management> findManagementsByInformationDateAndReaderIdFetch(Long readerId);
 
+    @Query("SELECT m FROM Management m "
+            + "JOIN FETCH m.information i "
+            + "JOIN FETCH i.reader r "
+            + "WHERE r.id IN :readerIds AND CURRENT_DATE BETWEEN i.startDate AND i.endDate AND NOT m.deleted AND NOT i.requested")
+    List<Management> findManagementsByInformationDateAndReaderIdInFetch(List<Long> readerIds);
+
     @Query("SELECT m FROM Management m "
             + "JOIN FETCH m.information i "
             + "JOIN FETCH i.reader r "
@@ -0,0 +1,12 @@
+package com.americanstartup.pillme.management.infrastructure;
+
+import com.americanstartup.pillme.management.domain.type.TakingType;
+import java.util.List;
+
+public interface ManagementRepositoryCustom {
+    long updateTaking(Long readerId, List<Long> managementIds, TakingType time, boolean taking);
+
+    long updateCurrentTaking(Long readerId, TakingType time, boolean taking);
+
+    long toggleTaking(Long readerId, Long informationId, TakingType time);
+}
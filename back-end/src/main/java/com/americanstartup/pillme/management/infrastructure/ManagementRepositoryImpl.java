@@ -0,0 +1,127 @@
+package com.americanstartup.pillme.management.infrastructure;
+
+import com.americanstartup.pillme.management.domain.QInformation;
+import com.americanstartup.pillme.management.domain.QManagement;
+import com.americanstartup.pillme.management.domain.type.TakingType;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 복용 여부 일괄 변경
+ * - 엔티티를 조회하지 않고 UPDATE 한 번으로 처리 (영속성 컨텍스트의 엔티티에는 반영되지 않음)
+ * - 복용 시간이 설정된 복약 정보만 변경하고, 읽는 사람의 복약 정보인지는 WHERE 절에서 확인
+ * */
+@RequiredArgsConstructor
+public class ManagementRepositoryImpl implements ManagementRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    // 지정한 복약 정보들의 복용 여부 변경
+    @Override
+    public long updateTaking(Long readerId, List<Long> managementIds, TakingType time, boolean taking) {
+        QManagement management = QManagement.management;
+        QInformation information = QInformation.information;
+
+        return queryFactory
+                .update(management)
+                .set(takingPath(management, time), taking)
+                .set(management.modifiedAt, now())
+                .where(
+                        management.id.in(managementIds),
+                        slotPath(management, time).isTrue(),
+                        management.deleted.isFalse(),
+                        management.information.id.in(JPAExpressions
+                                .select(information.id)
+                                .from(information)
+                                .where(ownedBy(information, readerId)))
+                )
+                .execute();
+    }
+
+    // 오늘 복용 중인 모든 복약 정보의 복용 여부 변경
+    @Override
+    public long updateCurrentTaking(Long readerId, TakingType time, boolean taking) {
+        QManagement management = QManagement.management;
+        QInformation information = QInformation.information;
+        LocalDate today = LocalDate.now();
+
+        return queryFactory
+                .update(management)
+                .set(takingPath(management, time), taking)
+                .set(management.modifiedAt, now())
+                .where(
+                        slotPath(management, time).isTrue(),
+                        management.deleted.isFalse(),
+                        management.information.id.in(JPAExpressions
+                                .select(information.id)
+                                .from(information)
+                                .where(
+                                        ownedBy(information, readerId),
+                                        information.startDate.loe(today),
+                                        information.endDate.goe(today)
+                                ))
+                )
+                .execute();
+    }
+
+    // 처방전에 포함된 모든 복약 정보의 복용 여부 반전
+    @Override
+    public long toggleTaking(Long readerId, Long informationId, TakingType time) {
+        QManagement management = QManagement.management;
+        QInformation information = QInformation.information;
+        BooleanPath taking = takingPath(management, time);
+
+        return queryFactory
+                .update(management)
+                .set(taking, taking.not())
+                .set(management.modifiedAt, now())
+                .where(
+                        slotPath(management, time).isTrue(),
+                        management.deleted.isFalse(),
+                        management.information.id.in(JPAExpressions
+                                .select(information.id)
+                                .from(information)
+                                .where(
+                                        information.id.eq(informationId),
+                                        ownedBy(information, readerId)
+                                ))
+                )
+                .execute();
+    }
+
+    private BooleanExpression ownedBy(QInformation information, Long readerId) {
+        return information.reader.id.eq(readerId)
+                .and(information.deleted.isFalse())
+                .and(information.requested.isFalse());
+    }
+
+    // 복용 시간 설정 여부
+    private BooleanPath slotPath(QManagement management, TakingType time) {
+        return switch (time) {
+            case MORNING -> management.morning;
+            case LUNCH -> management.lunch;
+            case DINNER -> management.dinner;
+            case SLEEP -> management.sleep;
+        };
+    }
+
+    // 복용 여부
+    private BooleanPath takingPath(QManagement management, TakingType time) {
+        return switch (time) {
+            case MORNING -> management.morningTaking;
+            case LUNCH -> management.lunchTaking;
+            case DINNER -> management.dinnerTaking;
+            case SLEEP -> management.sleepTaking;
+        };
+    }
+
+    // 일괄 변경은 Auditing이 적용되지 않으므로 수정 시간을 직접 지정
+    private Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,82 @@
+package com.americanstartup.pillme.management.infrastructure;
+
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
+
+import com.americanstartup.pillme.management.domain.PrescriptionRequestResult;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/*
+ * 처방전 이미지 분석 서버(FastAPI) 클라이언트
+ * - 요청마다 WebClient를 만들지 않고 커넥션 풀을 공유하는 WebClient 하나를 사용
+ * - 연결/응답 시간 제한을 두어 분석 서버가 응답하지 않아도 작업 스레드가 계속 묶여 있지 않도록 함
+ * - 이미지는 임시 파일 없이 메모리의 내용을 그대로 전송
+ * */
+@Component
+public class PrescriptionAnalyzeClient implements DisposableBean {
+    private static final String DEFAULT_FILENAME = "prescription";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public PrescriptionAnalyzeClient(
+            WebClient.Builder webClientBuilder,
+            @Value("${fastapi.base-url:https://i12a606.p.ssafy.io}") String baseUrl,
+            @Value("${fastapi.max-connections:16}") int maxConnections,
+            @Value("${fastapi.connect-timeout-ms:3000}") int connectTimeoutMillis,
+            @Value("${fastapi.timeout-seconds:60}") long timeoutSeconds
+    ) {
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.connectionProvider = ConnectionProvider.builder("fastapi")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(timeout)
+                // 분석 서버가 먼저 닫은 연결을 재사용하지 않도록 유휴 연결 정리
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(timeout);
+
+        this.webClient = webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    // 처방전 이미지에서 약 이름 추출 (응답이 올 때까지 호출한 스레드에서 대기)
+    public List<PrescriptionRequestResult> analyze(byte[] image, String filename, String contentType) {
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("file", new ByteArrayResource(image))
+                .filename(filename != null ? filename : DEFAULT_FILENAME)
+                .contentType(contentType != null ? MediaType.parseMediaType(contentType)
+                        : MediaType.APPLICATION_OCTET_STREAM);
+
+        return webClient.post()
+                .uri("/prescription")
+                .contentType(MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToFlux(PrescriptionRequestResult.class)
+                .collectList()
+                .block(timeout);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+}
@@ -1,5 +1,7 @@
 package com.americanstartup.pillme.management.presentation;
 
+import static com.americanstartup.pillme.global.code.SuccessCode.ANALYSIS_JOB_SELECT_SUCCESS;
+import static com.americanstartup.pillme.global.code.SuccessCode.ANALYZE_REQUEST_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_ADD_REQUEST_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_ADD_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_DELETE_REQUEST_REJECT_SUCCESS;
@@ -7,12 +9,16 @@ import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_DEL
 import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_DELETE_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.INFORMATION_SAVE_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.MANAGEMENT_CHANGE_SUCCESS;
+import static com.americanstartup.pillme.global.code.SuccessCode.MEDICATION_BULK_CHECK_SUCCESS;
 import static com.americanstartup.pillme.global.code.SuccessCode.MEDICATION_CHECK_SUCCESS;
 
 import com.americanstartup.pillme.auth.annotation.Auth;
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.global.response.JSONResponse;
 import com.americanstartup.pillme.management.application.ManagementService;
+import com.americanstartup.pillme.management.application.PrescriptionAnalysisService;
+import com.americanstartup.pillme.management.application.response.AnalysisJobResponse;
+import com.americanstartup.pillme.management.application.response.BulkTakingCheckResponse;
 import com.americanstartup.pillme.management.application.response.CurrentTakingResponse;
 import com.americanstartup.pillme.management.application.response.TakingDetailResponse;
 import com.americanstartup.pillme.management.application.response.TakingPrescriptionResponse;
@@ -20,6 +26,7 @@ import com.americanstartup.pillme.management.domain.Information;
 import com.americanstartup.pillme.management.presentation.request.AddTakingInformationRequest;
 import com.americanstartup.pillme.management.presentation.request.AllTakingCheckRequest;
 import com.americanstartup.pillme.management.presentation.request.AnalyzeImageRequest;
+import com.americanstartup.pillme.management.presentation.request.BulkTakingCheckRequest;
 import com.americanstartup.pillme.management.presentation.request.ChangeTakingInformationRequest;
 import com.americanstartup.pillme.management.presentation.request.CheckCurrentTakingRequest;
 import com.americanstartup.pillme.management.presentation.request.DeleteManagementRequest;
@@ -49,15 +56,27 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ManagementController {
     private final ManagementService managementService;
+    private final PrescriptionAnalysisService prescriptionAnalysisService;
 
     @PostMapping("/analyze")
-    public ResponseEntity<JSONResponse<Void>> analyzePrescription(
+    public ResponseEntity<JSONResponse<AnalysisJobResponse>> analyzePrescription(
             @RequestPart(value = "image") MultipartFile image,
             @RequestPart(value = "detail") AnalyzeImageRequest request,
             @Auth Member member
     ) {
-        managementService.requestToFastApi(image, request, member);
-        return ResponseEntity.noContent().build();
+        AnalysisJobResponse job = prescriptionAnalysisService.submit(image, request, member);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/management/analyze/" + job.jobId()))
+                .body(JSONResponse.of(ANALYZE_REQUEST_SUCCESS, job));
+    }
+
+    @GetMapping("/analyze/{job-id}")
+    public ResponseEntity<JSONResponse<AnalysisJobResponse>> getAnalysisJob(
+            @PathVariable(value = "job-id") String jobId,
+            @Auth Member member
+    ) {
+        return ResponseEntity.ok(
+                JSONResponse.of(ANALYSIS_JOB_SELECT_SUCCESS, prescriptionAnalysisService.getJob(jobId, member)));
     }
 
     @PostMapping
@@ -161,6 +180,19 @@ public class ManagementController {
         );
     }
 
+    @PatchMapping("/check-taking/bulk")
+    public ResponseEntity<JSONResponse<BulkTakingCheckResponse>> checkMedicationBulk(
+            @RequestBody final BulkTakingCheckRequest request,
+            @Auth Member member
+    ) {
+        return ResponseEntity.ok(
+                JSONResponse.of(
+                        MEDICATION_BULK_CHECK_SUCCESS,
+                        managementService.checkMedicationTakingBulk(request, member)
+                )
+        );
+    }
+
     @PatchMapping("/check-taking/{info-id}")
     public ResponseEntity<JSONResponse<Void>> checkAllMedication(
             @PathVariable(value = "info-id") final Long infoId,
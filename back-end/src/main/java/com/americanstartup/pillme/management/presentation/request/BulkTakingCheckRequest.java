@@ -0,0 +1,25 @@
+package com.americanstartup.pillme.management.presentation.request;
+
+import com.americanstartup.pillme.management.domain.item.TakingCheckItem;
+import com.americanstartup.pillme.management.domain.type.TakingType;
+import java.util.List;
+
+/*
+ * 여러 복약 정보의 복용 여부를 한 번에 변경
+ * - checks가 있는 경우: 복약 정보 id, 복용 시간, 복용 여부 목록대로 변경
+ * - checks가 없는 경우: 오늘 복용 중인 모든 복약 정보의 time 시간 복용 여부를 taking으로 변경 (기본값 true)
+ * */
+public record BulkTakingCheckRequest(
+        Long readerId,
+        TakingType time,
+        Boolean taking,
+        List<TakingCheckItem> checks
+) {
+    public boolean hasChecks() {
+        return checks != null && !checks.isEmpty();
+    }
+
+    public boolean takingOrDefault() {
+        return taking == null || taking;
+    }
+}
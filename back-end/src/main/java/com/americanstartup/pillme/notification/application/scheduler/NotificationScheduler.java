@@ -1,152 +1,158 @@
 package com.americanstartup.pillme.notification.application.scheduler;
 
-import com.americanstartup.pillme.auth.domain.entity.Member;
-import com.americanstartup.pillme.dependency.application.service.DependencyService;
-import com.americanstartup.pillme.management.application.ManagementService;
-import com.americanstartup.pillme.management.domain.item.TakingInformationItem;
+import com.americanstartup.pillme.global.cluster.ClusterMembership;
+import com.americanstartup.pillme.global.cluster.ClusterPartition;
+import com.americanstartup.pillme.global.cluster.DistributedLock;
+import com.americanstartup.pillme.global.cluster.PartitionProgress;
 import com.americanstartup.pillme.notification.application.service.FCMNotificationService;
-import com.americanstartup.pillme.notification.application.service.NotificationService;
 import com.americanstartup.pillme.notification.domain.component.NotificationMessageProvider;
-import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
+import com.americanstartup.pillme.notification.domain.item.PushNotificationItem;
 import com.americanstartup.pillme.notification.domain.vo.NotificationTimeType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.LongPredicate;
 
+@Slf4j
 @Component
 @EnableScheduling
 @RequiredArgsConstructor
 public class NotificationScheduler {
-    private final NotificationService notificationService;
     private final NotificationMessageProvider notificationMessageProvider;
-    private final DependencyService dependencyService;
-    private final ManagementService managementService;
     private final FCMNotificationService fcmNotificationService;
+    private final NotificationTimeWheel notificationTimeWheel;
+    private final ProtectorFollowUpProcessor protectorFollowUpProcessor;
+    private final ClusterMembership clusterMembership;
+    private final PartitionProgress partitionProgress;
+    private final DistributedLock distributedLock;
 
     private static final long MEDICATION_STATUS_NOTIFICATION_DELAY_MINUTES = 5;
 
+    private static final String MEDICATION_JOB = "notification:medication";
+    private static final String FOLLOW_UP_JOB = "notification:follow-up";
+
+    // 재처리는 한 서버만 수행 (다음 재처리 전에 만료)
+    private static final Duration RECOVERY_LOCK_LEASE = Duration.ofSeconds(50);
+
+    private static final DateTimeFormatter RUN_ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
     // Cron 표현식 사용 (매분 0초에 실행)
     @Scheduled(cron = "0 * * * * *")
     public void checkAndSendNotifications() {
 
         // 현재 시간 분 단위로 이용
-        LocalTime currentTIme = LocalTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime currentTime = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        String runId = currentTime.format(RUN_ID_FORMATTER);
+        ClusterPartition partition = clusterMembership.currentPartition();
 
-        // 현재 시간에 해당하는 알림 설정 조회
-        List<NotificationSetting> settings = notificationService.getNotificationSettingListForCurrentTime(currentTIme);
+        partitionProgress.start(MEDICATION_JOB, runId, partition);
 
-        // 알림 전송
-        for (NotificationSetting setting : settings) {
-            sendNotification(setting, currentTIme);
-        }
+        // 타이밍 휠에서 현재 시간에 알림을 받아야 하는 회원 중 현재 서버가 담당하는 회원 조회 (DB 조회 없음)
+        Map<Long, NotificationTimeType> dueMembers = findOwnedDueMembers(currentTime.toLocalTime(), partition);
+        sendMedicationNotifications(dueMembers);
+
+        partitionProgress.complete(MEDICATION_JOB, runId, partition);
     }
 
     /*
      * 피보호자가 약 복용 여부를 5분 후에 확인하고 보호자에게 알림을 전송
-     * 1. 복용 알림 시간 + 5분을 가진 회원 조회
-     * 2. 해당 회원과 관계가 등록되어 있는 보호자 조회
-     * 3. 해당 회원의 복용 여부 조회
-     * 4. 복용 여부에 따라 보호자에게 알림 전송
+     * 1. 타이밍 휠에서 복용 알림 시간 + 5분을 가진 회원 조회
+     * 2. 후속 알림 처리기에서 청크 단위로 보호자 / 복용 여부 / 토큰을 일괄 조회하여 전송
      * */
     @Scheduled(cron = "0 * * * * *")
     public void sendNotificationToProtectorAboutMedicationStatus() {
         // 현재 시간 분 단위로 이용
-        LocalTime currentTime = LocalTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime currentTime = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        String runId = currentTime.format(RUN_ID_FORMATTER);
+        ClusterPartition partition = clusterMembership.currentPartition();
+
+        partitionProgress.start(FOLLOW_UP_JOB, runId, partition);
 
-        // 1. 현재 시간 - 5분에 해당하는 복용 알림 설정 조회(복용 알림 시간 + 5분)
-        List<NotificationSetting> settings = notificationService.getNotificationSettingListForCurrentTime(
-                currentTime.minusMinutes(MEDICATION_STATUS_NOTIFICATION_DELAY_MINUTES));
+        // 1. 현재 시간 - 5분에 복용 알림을 받은 회원 조회(복용 알림 시간 + 5분)
+        Map<Long, NotificationTimeType> dueDependents = findOwnedDueMembers(
+                currentTime.toLocalTime().minusMinutes(MEDICATION_STATUS_NOTIFICATION_DELAY_MINUTES), partition);
 
-        // 1-1. NotificationSetting을 Member로 빠르게 조회하기 위한 Map 생성
-        Map<Member, NotificationSetting> memberToSetting = settings.stream()
-                .collect(Collectors.toMap(NotificationSetting::getMember, setting -> setting));
+        // 2. 복용 여부에 따라 보호자에게 알림 전송
+        protectorFollowUpProcessor.process(dueDependents);
 
-        // 2. 복용 알림 설정을 가진 회원들의 보호자 조회(보호자 조회 시, Name도 함께 조회)
-        Map<Member, List<Member>> dependentToProtectors = new HashMap<>();
-        Map<Long, String> dependentNames = new HashMap<>();
+        partitionProgress.complete(FOLLOW_UP_JOB, runId, partition);
+    }
 
-        for (NotificationSetting setting : settings) {
-            Member dependent = setting.getMember();
-            dependentNames.put(dependent.getId(), dependent.getName());
-            List<Member> protectors = dependencyService.findProtectorsByDependent(dependent);
-            dependentToProtectors.put(setting.getMember(), protectors);
+    /*
+     * 이전 분에 처리되지 않은 회원 재처리 (매분 30초에 실행)
+     * 서버가 비정상 종료되면 하트비트가 만료되기 전까지 다른 서버들은 그 서버의 파티션을 건너뛰므로,
+     * 이전 분의 실행 기록에서 완료되지 않았거나 종료된 서버가 실행하던 파티션의 회원에게 늦게라도 전송
+     * */
+    @Scheduled(cron = "30 * * * * *")
+    public void recoverMissedPartitions() {
+        LocalDateTime previousTime = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1);
+        String runId = previousTime.format(RUN_ID_FORMATTER);
+
+        String lockName = "notification:recover:" + runId;
+        if (!distributedLock.tryLock(lockName, RECOVERY_LOCK_LEASE)) {
+            return;
         }
 
-        // 3. 복용 알림 설정을 가진 회원들의 복용 여부 조회
-        Map<Member, List<TakingInformationItem>> takingInformationItems = new HashMap<>();
-        for (Member dependent : dependentToProtectors.keySet()) {
-            // 보호자가 존재하지 않는 경우 조회하지 않음
-            if (dependentToProtectors.get(dependent).isEmpty()) {
-                continue;
+        try {
+            Map<Long, NotificationTimeType> missedMembers = findMissedMembers(
+                    MEDICATION_JOB, runId, previousTime.toLocalTime());
+            if (!missedMembers.isEmpty()) {
+                log.warn("Recovering {} missed medication notifications of {}", missedMembers.size(), runId);
+                sendMedicationNotifications(missedMembers);
             }
-            List<TakingInformationItem> items = managementService.selectCurrentTakingInformationList(dependent);
-            takingInformationItems.put(dependent, items);
-        }
 
-        // 4. 복용 여부에 따라 보호자에게 알림 전송
-        for (Member dependent : takingInformationItems.keySet()) {
-            NotificationSetting setting = memberToSetting.get(dependent);
-            List<TakingInformationItem> items = takingInformationItems.get(dependent);
-
-            // 피보호자의 보호자들에게 알림 전송
-            for (Member protector : dependentToProtectors.get(dependent)) {
-                // 복용 알림 시간 타입 확인
-                NotificationTimeType timeType = NotificationTimeType.determineType(setting, currentTime.minusMinutes(MEDICATION_STATUS_NOTIFICATION_DELAY_MINUTES));
-
-                // 복용 여부 확인(모든 약 복용 여부가 true인 경우에만 복용했다는 것으로 판단)
-                boolean isTaken = checkMedicineStatus(items, timeType);
-
-                // 복용 여부에 따라 보호자에게 알림 전송
-                fcmNotificationService.sendToProtectorNotificationForTaking(
-                        protector.getId(),
-                        dependentNames.get(dependent.getId()) + "님이 " +
-                                (isTaken ? notificationMessageProvider.getTakenMessage(timeType) : notificationMessageProvider.getNotTakenMessage(timeType)),
-                        ""
-                );
+            Map<Long, NotificationTimeType> missedDependents = findMissedMembers(FOLLOW_UP_JOB, runId,
+                    previousTime.toLocalTime().minusMinutes(MEDICATION_STATUS_NOTIFICATION_DELAY_MINUTES));
+            if (!missedDependents.isEmpty()) {
+                log.warn("Recovering {} missed protector notifications of {}", missedDependents.size(), runId);
+                protectorFollowUpProcessor.process(missedDependents);
             }
+        } catch (RuntimeException e) {
+            log.error("Failed to recover missed notifications of {}: {}", runId, e.getMessage());
         }
     }
 
-    private boolean checkMedicineStatus(List<TakingInformationItem> items, NotificationTimeType timeType) {
-        boolean isTaking = true;
-
-        // 복용 여부 확인(모든 약 복용 여부가 true인 경우에만 복용했다는 것으로 판단)
-        for (TakingInformationItem item : items) {
-            switch (timeType) {
-                case MORNING -> {
-                    if (item.morning() && !item.morningTaking()) isTaking = false;
-                }
-                case LUNCH -> {
-                    if (item.lunch() && !item.lunchTaking()) isTaking = false;
-                }
-                case DINNER -> {
-                    if (item.dinner() && !item.dinnerTaking()) isTaking = false;
-                }
-                case SLEEP -> {
-                    if (item.sleep() && !item.sleepTaking()) isTaking = false;
-                }
-            }
+    // 알림 일괄 전송 (토큰은 회원 묶음 단위로 한 번에 조회)
+    private void sendMedicationNotifications(Map<Long, NotificationTimeType> dueMembers) {
+        fcmNotificationService.sendNotificationSettings(dueMembers.entrySet().stream()
+                .map(entry -> new PushNotificationItem(
+                        entry.getKey(),
+                        notificationMessageProvider.getMedicationMessage(entry.getValue()),
+                        ""))
+                .toList());
+    }
 
-            if (!isTaking) break;
+    /*
+     * 여러 서버로 운영하는 경우 회원 id % 서버 수 로 회원을 나누어 각 서버는 자신이 담당하는 회원에게만 전송
+     * 서버가 추가/종료되면 다음 실행부터 자동으로 다시 분배
+     * */
+    private Map<Long, NotificationTimeType> findOwnedDueMembers(LocalTime time, ClusterPartition partition) {
+        Map<Long, NotificationTimeType> dueMembers = notificationTimeWheel.findDueMembers(time);
+
+        if (partition.size() > 1) {
+            dueMembers.keySet().removeIf(memberId -> !partition.owns(memberId));
         }
-        return isTaking;
+        return dueMembers;
     }
 
-    // 일관된 시간을 위해 currentTime을 매개변수로 받아 이용
-    private void sendNotification(NotificationSetting setting, LocalTime currentTime) {
-        // 알림 시간 타입 확인
-        NotificationTimeType timeType = NotificationTimeType.determineType(setting, currentTime);
+    // 해당 분에 알림을 받아야 하는 회원 중 어느 서버도 처리를 완료하지 않은 회원 조회
+    private Map<Long, NotificationTimeType> findMissedMembers(String job, String runId, LocalTime time) {
+        Map<Long, NotificationTimeType> dueMembers = notificationTimeWheel.findDueMembers(time);
+        if (dueMembers.isEmpty()) {
+            return dueMembers;
+        }
 
-        fcmNotificationService.sendNotificationSetting(
-                setting.getMember().getId(),
-                notificationMessageProvider.getMedicationMessage(timeType), "");
+        LongPredicate covered = partitionProgress.findCovered(job, runId);
+        dueMembers.keySet().removeIf(covered::test);
+        return dueMembers;
     }
 }
@@ -0,0 +1,207 @@
+package com.americanstartup.pillme.notification.application.scheduler;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.notification.domain.item.NotificationScheduleItem;
+import com.americanstartup.pillme.notification.domain.vo.NotificationTimeType;
+import com.americanstartup.pillme.notification.infrastructure.repository.NotificationSettingRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * 하루(1440분)를 분 단위 슬롯으로 나눈 복용 알림 타이밍 휠
+ * - 각 슬롯은 해당 분에 알림을 받아야 하는 회원 id -> 알림 시간 타입을 보관
+ * - 서버 시작 시 전체 알림 설정으로 구성하고, 알림 설정 생성/수정/삭제 시 해당 회원만 갱신
+ * - 매분 스케줄러는 DB 조회 없이 현재 분의 슬롯만 조회
+ * - 여러 서버로 운영하는 경우 변경된 회원 id를 Redis Pub/Sub으로 전파하여 다른 서버도 DB에서 다시 조회해 갱신
+ * - Pub/Sub 메시지는 Redis 재연결 중 유실될 수 있으므로 주기적으로 전체 알림 설정과 다시 맞춤
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationTimeWheel {
+    private static final int SLOT_COUNT = 24 * 60;
+
+    private static final String CHANNEL_NAME = "notificationTimeWheel";
+
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // 분 단위 슬롯 (0 ~ 1439)
+    private final List<Map<Long, NotificationTimeType>> slots = createSlots();
+
+    // 회원별로 등록된 슬롯 번호 (변경/삭제 시 기존 슬롯을 제거하기 위해 사용)
+    private final Map<Long, List<Integer>> memberSlots = new ConcurrentHashMap<>();
+
+    // 재구성 중에 변경된 회원 id (재구성 시 조회한 설정이 더 오래된 값일 수 있으므로 덮어쓰지 않음)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationBus.register(CHANNEL_NAME, memberId -> refresh(Long.valueOf(memberId)));
+    }
+
+    /*
+     * 서버 시작 시, 이후 주기적으로 전체 알림 설정과 타이밍 휠을 맞춤
+     * - 슬롯을 비우지 않고 회원별로 다시 등록/제거하여 재구성 중에도 알림이 누락되지 않도록 함
+     * - 재구성 중에 변경된 회원은 이미 최신 설정이 반영되어 있으므로 건너뜀
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${notification.time-wheel.rebuild-cron:30 */10 * * * *}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            changedDuringRebuild.clear();
+            List<NotificationScheduleItem> items = notificationSettingRepository.findAllScheduleItems();
+
+            Set<Long> memberIds = new HashSet<>(items.size());
+            for (NotificationScheduleItem item : items) {
+                memberIds.add(item.memberId());
+                if (!changedDuringRebuild.contains(item.memberId())) {
+                    put(item);
+                }
+            }
+
+            List<Long> removedMemberIds = memberSlots.keySet().stream()
+                    .filter(memberId -> !memberIds.contains(memberId) && !changedDuringRebuild.contains(memberId))
+                    .toList();
+            removedMemberIds.forEach(this::delete);
+
+            log.info("Notification time wheel rebuilt with {} members ({} removed)", items.size(), removedMemberIds.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild notification time wheel: {}", e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /*
+     * 회원의 알림 시간을 타이밍 휠에 등록
+     * 이미 등록된 회원인 경우 기존 슬롯을 제거한 뒤 새로 등록
+     * 같은 분에 여러 시간 타입이 설정된 경우 아침 -> 점심 -> 저녁 -> 잠자기 전 순서로 하나만 등록
+     * */
+    public void register(NotificationScheduleItem item) {
+        markChanged(item.memberId());
+        put(item);
+    }
+
+    // 회원의 알림 시간을 타이밍 휠에서 제거
+    public void remove(Long memberId) {
+        markChanged(memberId);
+        delete(memberId);
+    }
+
+    private void markChanged(Long memberId) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(memberId);
+        }
+    }
+
+    private void put(NotificationScheduleItem item) {
+        memberSlots.compute(item.memberId(), (memberId, previousSlots) -> {
+            // 변경되지 않은 회원은 슬롯을 그대로 유지 (재구성 중 조회되는 슬롯에서 잠시 빠지지 않도록)
+            if (previousSlots != null && isRegistered(memberId, previousSlots, item)) {
+                return previousSlots;
+            }
+            if (previousSlots != null) {
+                previousSlots.forEach(slot -> slots.get(slot).remove(memberId));
+            }
+
+            List<Integer> registeredSlots = new ArrayList<>();
+            for (Map.Entry<NotificationTimeType, LocalTime> entry : toTimeMap(item).entrySet()) {
+                int slot = toSlot(entry.getValue());
+                if (slots.get(slot).putIfAbsent(memberId, entry.getKey()) == null) {
+                    registeredSlots.add(slot);
+                }
+            }
+
+            return registeredSlots.isEmpty() ? null : registeredSlots;
+        });
+    }
+
+    private boolean isRegistered(Long memberId, List<Integer> registeredSlots, NotificationScheduleItem item) {
+        Map<Integer, NotificationTimeType> expected = new LinkedHashMap<>();
+        toTimeMap(item).forEach((type, time) -> expected.putIfAbsent(toSlot(time), type));
+
+        return registeredSlots.equals(new ArrayList<>(expected.keySet()))
+                && expected.entrySet().stream()
+                .allMatch(entry -> entry.getValue() == slots.get(entry.getKey()).get(memberId));
+    }
+
+    private void delete(Long memberId) {
+        memberSlots.computeIfPresent(memberId, (id, previousSlots) -> {
+            previousSlots.forEach(slot -> slots.get(slot).remove(id));
+            return null;
+        });
+    }
+
+    // 현재 서버에 등록 후 다른 서버에도 변경 전파
+    public void registerAndPublish(NotificationScheduleItem item) {
+        register(item);
+        cacheInvalidationBus.publish(CHANNEL_NAME, item.memberId().toString());
+    }
+
+    // 현재 서버에서 제거 후 다른 서버에도 변경 전파
+    public void removeAndPublish(Long memberId) {
+        remove(memberId);
+        cacheInvalidationBus.publish(CHANNEL_NAME, memberId.toString());
+    }
+
+    // 다른 서버에서 변경된 회원의 알림 시간을 DB에서 다시 조회하여 갱신
+    private void refresh(Long memberId) {
+        notificationSettingRepository.findScheduleItemByMemberId(memberId)
+                .ifPresentOrElse(this::register, () -> remove(memberId));
+    }
+
+    // 현재 시간(분)에 알림을 받아야 하는 회원 id -> 알림 시간 타입 조회
+    public Map<Long, NotificationTimeType> findDueMembers(LocalTime time) {
+        return new HashMap<>(slots.get(toSlot(time)));
+    }
+
+    // 알림 시간이 설정된 시간 타입만 순서대로 반환 (설정하지 않은 시간은 null)
+    private Map<NotificationTimeType, LocalTime> toTimeMap(NotificationScheduleItem item) {
+        Map<NotificationTimeType, LocalTime> times = new LinkedHashMap<>();
+        putIfSet(times, NotificationTimeType.MORNING, item.morning());
+        putIfSet(times, NotificationTimeType.LUNCH, item.lunch());
+        putIfSet(times, NotificationTimeType.DINNER, item.dinner());
+        putIfSet(times, NotificationTimeType.SLEEP, item.sleep());
+        return times;
+    }
+
+    private void putIfSet(Map<NotificationTimeType, LocalTime> times, NotificationTimeType type, LocalTime time) {
+        if (time != null) {
+            times.put(type, time);
+        }
+    }
+
+    private int toSlot(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static List<Map<Long, NotificationTimeType>> createSlots() {
+        List<Map<Long, NotificationTimeType>> slots = new ArrayList<>(SLOT_COUNT);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots.add(new ConcurrentHashMap<>());
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,115 @@
+package com.americanstartup.pillme.notification.application.scheduler;
+
+import com.americanstartup.pillme.dependency.application.service.DependencyService;
+import com.americanstartup.pillme.dependency.domain.entity.Dependency;
+import com.americanstartup.pillme.management.application.ManagementService;
+import com.americanstartup.pillme.management.domain.item.TakingInformationItem;
+import com.americanstartup.pillme.notification.application.service.FCMNotificationService;
+import com.americanstartup.pillme.notification.domain.component.NotificationMessageProvider;
+import com.americanstartup.pillme.notification.domain.item.PushNotificationItem;
+import com.americanstartup.pillme.notification.domain.vo.NotificationTimeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 피보호자의 복용 여부를 보호자에게 알리는 후속 알림 처리기
+ * 피보호자마다 보호자/복용 정보/토큰을 따로 조회하지 않고, 일정 크기의 청크 단위로 묶어
+ * 청크마다 보호자 관계 1회, 오늘의 복용 정보 1회, FCM 토큰 1회의 IN 쿼리만 수행
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProtectorFollowUpProcessor {
+    private static final int CHUNK_SIZE = 500;
+
+    private final DependencyService dependencyService;
+    private final ManagementService managementService;
+    private final FCMNotificationService fcmNotificationService;
+    private final NotificationMessageProvider notificationMessageProvider;
+
+    /*
+     * 복용 알림 시간이 지난 피보호자 id -> 알림 시간 타입을 받아 보호자 알림 전송
+     * */
+    public void process(Map<Long, NotificationTimeType> dueDependents) {
+        List<Long> dependentIds = new ArrayList<>(dueDependents.keySet());
+
+        for (int from = 0; from < dependentIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = dependentIds.subList(from, Math.min(from + CHUNK_SIZE, dependentIds.size()));
+            processChunk(chunk, dueDependents);
+        }
+    }
+
+    /*
+     * 1. 피보호자들의 보호자 관계 조회 (피보호자 이름도 함께 조회)
+     * 2. 보호자가 존재하는 피보호자들의 오늘 복용 정보 조회
+     * 3. 메모리에서 보호자별 알림 생성
+     * 4. 보호자들의 토큰을 한 번에 조회하여 알림 전송
+     * */
+    private void processChunk(List<Long> dependentIds, Map<Long, NotificationTimeType> dueDependents) {
+        // 1. 피보호자들의 보호자 관계 조회
+        List<Dependency> dependencies = dependencyService.findDependenciesByDependentIds(dependentIds);
+        if (dependencies.isEmpty()) {
+            return;
+        }
+
+        // 2. 보호자가 존재하는 피보호자들의 복용 정보 조회
+        List<Long> guardedDependentIds = dependencies.stream()
+                .map(dependency -> dependency.getDependent().getId())
+                .distinct()
+                .toList();
+        Map<Long, List<TakingInformationItem>> takingInformationItems =
+                managementService.selectCurrentTakingInformationMap(guardedDependentIds);
+
+        // 3. 복용 여부에 따라 보호자별 알림 생성
+        List<PushNotificationItem> items = new ArrayList<>(dependencies.size());
+        for (Dependency dependency : dependencies) {
+            Long dependentId = dependency.getDependent().getId();
+            NotificationTimeType timeType = dueDependents.get(dependentId);
+
+            // 복용 여부 확인(모든 약 복용 여부가 true인 경우에만 복용했다는 것으로 판단)
+            boolean isTaken = checkMedicineStatus(takingInformationItems.getOrDefault(dependentId, List.of()), timeType);
+
+            items.add(new PushNotificationItem(
+                    dependency.getProtector().getId(),
+                    dependency.getDependent().getName() + "님이 " +
+                            (isTaken ? notificationMessageProvider.getTakenMessage(timeType) : notificationMessageProvider.getNotTakenMessage(timeType)),
+                    ""
+            ));
+        }
+
+        // 4. 보호자들에게 알림 일괄 전송
+        fcmNotificationService.sendNotificationSettings(items);
+
+        log.debug("Protector follow-up sent: dependents={}, notifications={}", guardedDependentIds.size(), items.size());
+    }
+
+    private boolean checkMedicineStatus(List<TakingInformationItem> items, NotificationTimeType timeType) {
+        boolean isTaking = true;
+
+        // 복용 여부 확인(모든 약 복용 여부가 true인 경우에만 복용했다는 것으로 판단)
+        for (TakingInformationItem item : items) {
+            switch (timeType) {
+                case MORNING -> {
+                    if (item.morning() && !item.morningTaking()) isTaking = false;
+                }
+                case LUNCH -> {
+                    if (item.lunch() && !item.lunchTaking()) isTaking = false;
+                }
+                case DINNER -> {
+                    if (item.dinner() && !item.dinnerTaking()) isTaking = false;
+                }
+                case SLEEP -> {
+                    if (item.sleep() && !item.sleepTaking()) isTaking = false;
+                }
+            }
+
+            if (!isTaking) break;
+        }
+        return isTaking;
+    }
+}
@@ -0,0 +1,123 @@
+package com.americanstartup.pillme.notification.application.sender;
+
+import com.americanstartup.pillme.notification.application.service.FCMTokenService;
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.americanstartup.pillme.notification.infrastructure.fcm.FCMClient;
+import com.americanstartup.pillme.notification.infrastructure.fcm.FCMSendResult;
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/*
+ * FCM 메시지를 최대 500건 단위로 묶어 전송하는 컴포넌트
+ * - 동시에 전송 중인 묶음 수를 세마포어로 제한 (초과 시 호출 스레드가 대기)
+ * - 전송 결과를 메시지 단위로 확인하여 UNREGISTERED 토큰은 일괄 삭제
+ * - UNAVAILABLE, INTERNAL 등 일시적 실패는 재전송 큐에 등록
+ * */
+@Slf4j
+@Component
+public class FCMBatchSender {
+
+    private final FCMClient fcmClient;
+    private final FCMTokenService fcmTokenService;
+    private final FCMRetryQueue fcmRetryQueue;
+    private final Semaphore inFlight;
+
+    public FCMBatchSender(
+            FCMClient fcmClient,
+            FCMTokenService fcmTokenService,
+            FCMRetryQueue fcmRetryQueue,
+            @Value("${fcm.sender.max-in-flight:8}") int maxInFlight
+    ) {
+        this.fcmClient = fcmClient;
+        this.fcmTokenService = fcmTokenService;
+        this.fcmRetryQueue = fcmRetryQueue;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    // 메시지들을 묶음 단위로 나누어 전송
+    public void send(List<PushMessage> messages) {
+        for (int from = 0; from < messages.size(); from += FCMClient.MAX_BATCH_SIZE) {
+            List<PushMessage> batch = List.copyOf(
+                    messages.subList(from, Math.min(from + FCMClient.MAX_BATCH_SIZE, messages.size())));
+            sendBatch(batch);
+        }
+    }
+
+    private void sendBatch(List<PushMessage> batch) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting to send FCM batch: size={}", batch.size());
+            return;
+        }
+
+        try {
+            fcmClient.sendEach(batch)
+                    .whenComplete((results, throwable) -> {
+                        try {
+                            if (throwable != null) {
+                                log.error("Failed to send FCM batch: {}", throwable.getMessage());
+                                fcmRetryQueue.schedule(batch);
+                                return;
+                            }
+                            handleResults(batch, results);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            log.error("Failed to send FCM batch: {}", e.getMessage());
+            fcmRetryQueue.schedule(batch);
+        }
+    }
+
+    /*
+     * 메시지별 전송 결과 처리
+     * UNREGISTERED: 더 이상 유효하지 않은 토큰이므로 삭제
+     * UNAVAILABLE, INTERNAL: FCM 서버 장애로 인한 일시적 실패이므로 재전송 큐에 등록
+     * 그 외: 로그로 기록
+     * */
+    private void handleResults(List<PushMessage> batch, List<FCMSendResult> results) {
+        List<Integer> unregisteredTokenIds = new ArrayList<>();
+        List<PushMessage> retryMessages = new ArrayList<>();
+        int failureCount = 0;
+
+        for (int i = 0; i < results.size(); i++) {
+            FCMSendResult result = results.get(i);
+            if (result.success()) {
+                continue;
+            }
+
+            failureCount++;
+            PushMessage message = batch.get(i);
+            MessagingErrorCode errorCode = result.errorCode();
+
+            if (errorCode == MessagingErrorCode.UNREGISTERED) {
+                unregisteredTokenIds.add(message.tokenId());
+            } else if (errorCode == MessagingErrorCode.UNAVAILABLE || errorCode == MessagingErrorCode.INTERNAL) {
+                retryMessages.add(message);
+            } else {
+                log.error("Failed to send message: tokenId={}, error={}", message.tokenId(), result.errorMessage());
+            }
+        }
+
+        if (!unregisteredTokenIds.isEmpty()) {
+            fcmTokenService.deleteFCMTokens(unregisteredTokenIds);
+        }
+        if (!retryMessages.isEmpty()) {
+            log.warn("FCM temporarily unavailable, scheduling retry: size={}", retryMessages.size());
+            fcmRetryQueue.schedule(retryMessages);
+        }
+
+        log.debug("FCM batch completed: size={}, failures={}, unregistered={}, retry={}",
+                batch.size(), failureCount, unregisteredTokenIds.size(), retryMessages.size());
+    }
+}
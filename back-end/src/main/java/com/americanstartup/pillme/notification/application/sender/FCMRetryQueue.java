@@ -0,0 +1,136 @@
+package com.americanstartup.pillme.notification.application.sender;
+
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * FCM 일시적 실패(UNAVAILABLE, INTERNAL) 메시지를 위한 재전송 큐
+ * - Redis Sorted Set에 다음 전송 시각(epoch millis)을 score로 저장하여 서버가 재시작되어도 유지
+ * - 멤버(직렬화한 메시지)에 messageId가 포함되어 내용이 같은 메시지도 각각 보관
+ * - 재전송 간격은 지수적으로 증가하며, 여러 메시지가 동시에 재전송되지 않도록 지터 적용
+ * - 최대 재전송 횟수를 초과한 메시지는 dead letter 목록으로 이동
+ * */
+@Slf4j
+@Component
+public class FCMRetryQueue {
+    private static final String RETRY_QUEUE_KEY = "fcm:retry:queue";
+    private static final String DEAD_LETTER_KEY = "fcm:retry:dead";
+
+    // dead letter 목록에 보관할 최대 메시지 수
+    private static final long DEAD_LETTER_MAX_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+
+    public FCMRetryQueue(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${fcm.retry.base-delay-ms:2000}") long baseDelayMillis,
+            @Value("${fcm.retry.max-delay-ms:300000}") long maxDelayMillis,
+            @Value("${fcm.retry.max-attempts:5}") int maxAttempts
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /*
+     * 실패한 메시지를 재전송 큐에 등록
+     * 최대 재전송 횟수를 초과한 경우 dead letter 목록으로 이동
+     * */
+    public void schedule(List<PushMessage> messages) {
+        long now = System.currentTimeMillis();
+
+        for (PushMessage message : messages) {
+            PushMessage retryMessage = message.nextAttempt();
+            String value = serialize(retryMessage);
+            if (value == null) {
+                continue;
+            }
+
+            if (retryMessage.attempt() > maxAttempts) {
+                moveToDeadLetter(retryMessage, value);
+                continue;
+            }
+
+            redisTemplate.opsForZSet().add(RETRY_QUEUE_KEY, value, now + backoffMillis(retryMessage.attempt()));
+        }
+    }
+
+    /*
+     * 전송 시각이 지난 메시지를 최대 limit개 가져옴
+     * 여러 서버에서 동시에 가져가는 경우를 대비해 ZREM에 성공한 메시지만 반환
+     * */
+    public List<PushMessage> pollDue(int limit) {
+        Set<String> values = redisTemplate.opsForZSet()
+                .rangeByScore(RETRY_QUEUE_KEY, 0, System.currentTimeMillis(), 0, limit);
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+
+        List<PushMessage> messages = new ArrayList<>(values.size());
+        for (String value : values) {
+            Long removed = redisTemplate.opsForZSet().remove(RETRY_QUEUE_KEY, value);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+
+            PushMessage message = deserialize(value);
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    /*
+     * 지수 백오프 + 지터
+     * attempt 1 -> base, 2 -> base * 2, 3 -> base * 4 ... (최대 maxDelay)
+     * 실제 대기 시간은 계산된 값의 50% ~ 100% 사이에서 무작위로 결정
+     * */
+    private long backoffMillis(int attempt) {
+        long delay = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    // 전체 메시지는 dead letter 목록에만 보관하고, 로그에는 FCM 토큰을 남기지 않음
+    private void moveToDeadLetter(PushMessage message, String value) {
+        redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, value);
+        redisTemplate.opsForList().trim(DEAD_LETTER_KEY, -DEAD_LETTER_MAX_SIZE, -1);
+        log.error("FCM message moved to dead letter: messageId={}, type={}, memberId={}, attempt={}",
+                message.messageId(), message.type(), message.memberId(), message.attempt());
+    }
+
+    private String serialize(PushMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize FCM retry message: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private PushMessage deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, PushMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize FCM retry message: {}", e.getMessage());
+            return null;
+        }
+    }
+}
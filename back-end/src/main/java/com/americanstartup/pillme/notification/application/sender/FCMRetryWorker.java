@@ -0,0 +1,44 @@
+package com.americanstartup.pillme.notification.application.sender;
+
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * 재전송 큐에서 전송 시각이 지난 메시지를 가져와 다시 전송하는 워커
+ * 매분 실행되는 알림 스케줄러와 별도의 스케줄러 스레드에서 실행 (spring.task.scheduling.pool.size)
+ * */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FCMRetryWorker {
+    // 한 번에 가져올 메시지 수 (FCM 한 번의 요청으로 보낼 수 있는 최대 메시지 수)
+    private static final int DRAIN_BATCH_SIZE = 500;
+
+    // 한 번의 실행에서 처리할 최대 묶음 수 (큐가 쌓여도 다른 작업을 오래 막지 않도록 제한)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final FCMRetryQueue fcmRetryQueue;
+    private final FCMBatchSender fcmBatchSender;
+
+    @Scheduled(fixedDelayString = "${fcm.retry.poll-interval-ms:1000}")
+    public void drainDueMessages() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<PushMessage> messages = fcmRetryQueue.pollDue(DRAIN_BATCH_SIZE);
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            log.info("Retrying FCM messages: size={}", messages.size());
+            fcmBatchSender.send(messages);
+
+            if (messages.size() < DRAIN_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
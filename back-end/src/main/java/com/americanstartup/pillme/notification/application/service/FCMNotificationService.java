@@ -1,8 +1,11 @@
 package com.americanstartup.pillme.notification.application.service;
 
+import com.americanstartup.pillme.notification.domain.item.PushNotificationItem;
 import com.americanstartup.pillme.notification.presentation.request.ChatNotificationRequest;
 import com.americanstartup.pillme.notification.presentation.request.NotificationRequest;
 
+import java.util.List;
+
 public interface FCMNotificationService {
     // 사용자가 설정한 알림 설정에 따라 알림을 보내는 메서드
     void sendNotificationSetting(Long memberId, String title, String body);
@@ -16,6 +19,9 @@ public interface FCMNotificationService {
     // 피보호자 복용 여부에 따라 보호자에게 복용 여부 알림을 보내는 메서드
     void sendToProtectorNotificationForTaking(Long memberId, String title, String body);
 
+    // 여러 회원에게 복용 관련 알림을 일괄 전송하는 메서드 (토큰은 한 번에 조회)
+    void sendNotificationSettings(List<PushNotificationItem> items);
+
     // 채팅 알림을 보내는 메서드
     void sendChatNotification(ChatNotificationRequest chatNotificationRequest);
 }
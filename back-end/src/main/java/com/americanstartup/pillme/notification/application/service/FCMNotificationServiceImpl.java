@@ -1,16 +1,20 @@
 package com.americanstartup.pillme.notification.application.service;
 
-import com.google.firebase.messaging.*;
-import com.americanstartup.pillme.notification.domain.entity.FCMToken;
+import com.americanstartup.pillme.notification.application.sender.FCMBatchSender;
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.americanstartup.pillme.notification.domain.item.PushNotificationItem;
 import com.americanstartup.pillme.notification.presentation.request.ChatNotificationRequest;
 import com.americanstartup.pillme.notification.presentation.request.NotificationRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -18,7 +22,7 @@ import java.util.Map;
 public class FCMNotificationServiceImpl implements FCMNotificationService {
 
     private final FCMTokenService fcmTokenService;
-    private final FirebaseMessaging firebaseMessaging;
+    private final FCMBatchSender fcmBatchSender;
 
     /*
      * FCM에서 알림을 보내기 위한 데이터 키 정의
@@ -44,8 +48,8 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
         private static final String DEPENDENCY_ID = "dependencyId";
     }
 
-    // 서비스 홈페이지 URL
-    private static final String SERVICE_URL = "https://pillme.site";
+    // 일괄 전송 시 한 번에 토큰을 조회할 회원 수
+    private static final int TOKEN_LOOKUP_CHUNK_SIZE = 500;
 
     @Override
     public void sendNotificationSetting(Long memberId, String title, String body) {
@@ -53,20 +57,14 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
         /* 사용자 id로 토큰들 조회
         사용자가 알림을 허용한 모든 토큰들에 알림 전송
          */
-        List<FCMToken> tokens = findValidTokens(memberId);
-
-        for (FCMToken token : tokens) {
-            Message message = buildSendNotificationMessage(token.getToken(), title, body);
-
-            /* 사용자가 알림을 허용한 토큰이 여러 개일 수 있기 때문에 비동기로 처리
-            동기로 처리할 경우, 모든 토큰에 알림을 보내는데 시간이 오래 걸릴 수 있음
-             */
-            try {
-                firebaseMessaging.sendAsync(message);
-            } catch (Exception e) {
-                handleExceptionForSendMessage(e, token);
-            }
-        }
+        List<FCMTokenItem> tokens = findValidTokens(memberId);
+
+        /* 사용자가 알림을 허용한 토큰이 여러 개일 수 있기 때문에 묶어서 비동기로 전송
+        전송 결과는 FCMBatchSender에서 확인하여 유효하지 않은 토큰을 정리
+         */
+        fcmBatchSender.send(tokens.stream()
+                .map(token -> PushMessage.ofNotification(token, title, body))
+                .toList());
     }
 
     /*
@@ -78,7 +76,7 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
     @Override
     public void sendNotification(NotificationRequest notificationRequest) {
         // 수신자의 id로 토큰들 조회
-        List<FCMToken> receiverFCMTokens = findValidTokens(notificationRequest.receiver().getId());
+        List<FCMTokenItem> receiverFCMTokens = findValidTokens(notificationRequest.receiver().getId());
 
         /*
          * 알림에 필요한 데이터 설정
@@ -89,74 +87,69 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
          * */
         Map<String, String> data = setNotificationData(notificationRequest);
 
-        for (FCMToken receiverFCMToken : receiverFCMTokens) {
-            Message message = Message.builder()
-                    .setToken(receiverFCMToken.getToken())
-                    .putAllData(data) // 전체 데이터를 메시지에 포함
-                    // 웹/PWA용 설정
-                    .setWebpushConfig(WebpushConfig.builder()
-                            // 알림 클릭 시 이동할 URL 설정 (현재는 모두 서비스 홈 URL)
-                            .setFcmOptions(WebpushFcmOptions.builder()
-                                    .setLink(SERVICE_URL)
-                                    .build())
-                            .build())
-                    .build();
-            try {
-                firebaseMessaging.sendAsync(message);
-            } catch (Exception e) {
-                handleExceptionForSendMessage(e, receiverFCMToken);
-            }
-
-        }
+        fcmBatchSender.send(receiverFCMTokens.stream()
+                .map(token -> PushMessage.ofData(token, data))
+                .toList());
     }
 
     @Override
     public void sendDeleteDependencyNotification(NotificationRequest notificationRequest, Long dependencyId) {
         // 수신자의 id로 토큰들 조회
-        List<FCMToken> receiverFCMTokens = findValidTokens(notificationRequest.receiver().getId());
+        List<FCMTokenItem> receiverFCMTokens = findValidTokens(notificationRequest.receiver().getId());
 
         // 알림 데이터 설정
         Map<String, String> data = setNotificationData(notificationRequest);
         // 알림 데이터에 삭제할 관계 id 추가
         data.put(DataKey.DEPENDENCY_ID, dependencyId.toString());
 
-        for (FCMToken receiverFCMToken : receiverFCMTokens) {
-            Message message = Message.builder()
-                    .setToken(receiverFCMToken.getToken())
-                    .putAllData(data) // 전체 데이터를 메시지에 포함
-                    // 웹/PWA용 설정
-                    .setWebpushConfig(WebpushConfig.builder()
-                            // 알림 클릭 시 이동할 URL 설정 (현재는 모두 서비스 홈 URL)
-                            .setFcmOptions(WebpushFcmOptions.builder()
-                                    .setLink(SERVICE_URL)
-                                    .build())
-                            .build())
-                    .build();
-            try {
-                firebaseMessaging.sendAsync(message);
-            } catch (Exception e) {
-                handleExceptionForSendMessage(e, receiverFCMToken);
-            }
-        }
+        fcmBatchSender.send(receiverFCMTokens.stream()
+                .map(token -> PushMessage.ofData(token, data))
+                .toList());
     }
 
     @Override
     public void sendToProtectorNotificationForTaking(Long protectorId, String title, String body) {
         // 보호자 id로 토큰들 조회
-        List<FCMToken> tokens = findValidTokens(protectorId);
+        List<FCMTokenItem> tokens = findValidTokens(protectorId);
+
+        fcmBatchSender.send(tokens.stream()
+                .map(token -> PushMessage.ofNotification(token, title, body))
+                .toList());
+    }
+
 
-        for (FCMToken token : tokens) {
-            Message message = buildSendNotificationMessage(token.getToken(), title, body);
+    /*
+     * 여러 회원에게 복용 관련 알림을 일괄 전송
+     * 회원마다 토큰을 조회하지 않고 회원 500명 단위로 토큰을 한 번에 조회한 뒤 메모리에서 메시지 생성
+     * */
+    @Override
+    public void sendNotificationSettings(List<PushNotificationItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
 
-            try {
-                firebaseMessaging.sendAsync(message);
-            } catch (Exception e) {
-                handleExceptionForSendMessage(e, token);
+        Map<Long, List<PushNotificationItem>> itemsByMember = items.stream()
+                .collect(Collectors.groupingBy(PushNotificationItem::memberId));
+        List<Long> memberIds = new ArrayList<>(itemsByMember.keySet());
+
+        for (int from = 0; from < memberIds.size(); from += TOKEN_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + TOKEN_LOOKUP_CHUNK_SIZE, memberIds.size()));
+            Map<Long, List<FCMTokenItem>> tokensByMember = fcmTokenService.findAllByMemberIds(chunk);
+
+            List<PushMessage> messages = new ArrayList<>();
+            for (Long memberId : chunk) {
+                for (FCMTokenItem token : tokensByMember.getOrDefault(memberId, List.of())) {
+                    for (PushNotificationItem item : itemsByMember.get(memberId)) {
+                        messages.add(PushMessage.ofNotification(token, item.title(), item.body()));
+                    }
+                }
             }
+
+            // 500건 단위로 묶어 전송
+            fcmBatchSender.send(messages);
         }
     }
 
-
     /*
      * 채팅 알림을 전송하는 메소드
      * ChatNotificationRequest
@@ -169,56 +162,14 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
     @Override
     public void sendChatNotification(ChatNotificationRequest chatNotificationRequest) {
         // 수신자의 id로 토큰들 조회
-        List<FCMToken> receiverFCMTokens = findValidTokens(chatNotificationRequest.receiver().getId());
+        List<FCMTokenItem> receiverFCMTokens = findValidTokens(chatNotificationRequest.receiver().id());
 
         // 채팅 알림 데이터 설정
         Map<String, String> data = setChatNotificationData(chatNotificationRequest);
 
-        for (FCMToken receiverFCMToken : receiverFCMTokens) {
-            Message message = Message.builder()
-                    .setToken(receiverFCMToken.getToken())
-                    .putAllData(data) // 전체 데이터를 메시지에 포함
-                    // 웹/PWA용 설정
-                    .setWebpushConfig(WebpushConfig.builder()
-                            // 알림 클릭 시 이동할 URL 설정 (현재는 모두 서비스 홈 URL)
-                            .setFcmOptions(WebpushFcmOptions.builder()
-                                    .setLink(SERVICE_URL)
-                                    .build())
-                            .build())
-                    .build();
-            try {
-                firebaseMessaging.sendAsync(message);
-            } catch (Exception e) {
-                handleExceptionForSendMessage(e, receiverFCMToken);
-            }
-        }
-    }
-
-    // 메시지 전송 중 예외 처리
-    private void handleExceptionForSendMessage(Exception e, FCMToken fcmToken) {
-
-        if (e.getCause() instanceof FirebaseMessagingException exception) {
-            MessagingErrorCode errorCode = exception.getMessagingErrorCode();
-            // 알림 전송 실패 시 처리
-            if (errorCode.equals(MessagingErrorCode.UNREGISTERED)) {
-                fcmTokenService.deleteFCMToken(fcmToken);
-            }
-            /*
-             * FCM 서버에서 장애가 발생했을 때, 재전송 로직을 추가
-             * */
-            else if (errorCode.equals(MessagingErrorCode.UNAVAILABLE) ||
-                    errorCode.equals(MessagingErrorCode.INTERNAL)) {
-                // TODO: 재전송 로직 추가
-            }
-            // 기타 예외는 로그로 기록
-            else {
-                log.error("Failed to send message: {}", e.getMessage());
-            }
-        }
-        // 기타 예외는 로그로 기록
-        else {
-            log.error("Failed to send message: {}", e.getMessage());
-        }
+        fcmBatchSender.send(receiverFCMTokens.stream()
+                .map(token -> PushMessage.ofData(token, data))
+                .toList());
     }
 
     // 알림 데이터 설정
@@ -242,28 +193,28 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
         // 어떤 알림인지 구분하기 위한 코드
         data.put(DataKey.CODE, chatNotificationRequest.notificationCode().getCode());
         // 알림 제목 (보낸 사람 이름)
-        data.put(DataKey.TITLE, chatNotificationRequest.sender().getName());
+        data.put(DataKey.TITLE, chatNotificationRequest.sender().name());
         // 알림 내용
         data.put(DataKey.BODY, chatNotificationRequest.message());
         // 알림 발신자 id
-        data.put(DataKey.SENDER_ID, chatNotificationRequest.sender().getId().toString());
+        data.put(DataKey.SENDER_ID, chatNotificationRequest.sender().id().toString());
         // 채팅방 id
         data.put(DataKey.CHAT_ROOM_ID, chatNotificationRequest.chatRoomId().toString());
         // 채팅 메시지 전송 시간
         data.put(DataKey.SEND_TIME, chatNotificationRequest.sendTime().toString());
         // 채팅 메시지 수신자 id
-        data.put(DataKey.RECEIVER_ID, chatNotificationRequest.receiver().getId().toString());
+        data.put(DataKey.RECEIVER_ID, chatNotificationRequest.receiver().id().toString());
         // 채팅 메시지 발신자 이름
-        data.put(DataKey.SENDER_NAME, chatNotificationRequest.sender().getName());
+        data.put(DataKey.SENDER_NAME, chatNotificationRequest.sender().name());
         // 채팅 메시지 수신자 이름
-        data.put(DataKey.RECEIVER_NAME, chatNotificationRequest.receiver().getName());
+        data.put(DataKey.RECEIVER_NAME, chatNotificationRequest.receiver().name());
 
         return data;
     }
 
     // FCMTokenService를 통해 사용자의 토큰들을 조회하고 검증
-    private List<FCMToken> findValidTokens(Long memberId) {
-        List<FCMToken> tokens = fcmTokenService.findAllByMemberId(memberId);
+    private List<FCMTokenItem> findValidTokens(Long memberId) {
+        List<FCMTokenItem> tokens = fcmTokenService.findAllByMemberId(memberId);
 
         // 토큰이 없을 경우, 로그로 기록만 남기고 빈 리스트 반환
         if (tokens.isEmpty()) {
@@ -273,24 +224,4 @@ public class FCMNotificationServiceImpl implements FCMNotificationService {
 
         return tokens;
     }
-
-    // 복용 알림 메시지 생성
-    private Message buildSendNotificationMessage(String token, String title, String body) {
-        return Message.builder()
-                .setToken(token)
-                // 기본 알림 설정
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                // 웹/PWA용 설정
-                .setWebpushConfig(WebpushConfig.builder()
-                        // 알림 클릭 시 이동할 URL 설정 (현재는 모두 서비스 홈 URL)
-                        .setFcmOptions(WebpushFcmOptions.builder()
-                                .setLink(SERVICE_URL)
-                                .build())
-                        .build())
-                .build();
-    }
-
 }
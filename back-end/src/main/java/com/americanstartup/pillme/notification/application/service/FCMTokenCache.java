@@ -0,0 +1,173 @@
+package com.americanstartup.pillme.notification.application.service;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
+import com.americanstartup.pillme.notification.infrastructure.repository.FCMTokenRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 회원별 FCM 토큰 캐시
+ * - 1차: 서버 로컬 캐시 (Caffeine)
+ * - 2차: Redis (fcm.token-cache.redis-enabled=true 인 경우에만 사용)
+ * - 모두 없는 경우 DB에서 조회 (토큰이 없는 회원도 빈 목록으로 캐싱)
+ * 토큰이 생성/삭제되면 커밋 이후 evict를 호출하여 Redis와 모든 서버의 로컬 캐시를 무효화
+ * */
+@Slf4j
+@Component
+public class FCMTokenCache {
+    private static final String CACHE_NAME = "fcmTokens";
+    private static final String REDIS_KEY_PREFIX = "fcm:tokens:";
+    private static final TypeReference<List<FCMTokenItem>> ITEM_LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final FCMTokenRepository fcmTokenRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Cache<Long, List<FCMTokenItem>> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public FCMTokenCache(
+            FCMTokenRepository fcmTokenRepository,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${fcm.token-cache.maximum-size:100000}") long maximumSize,
+            @Value("${fcm.token-cache.local-ttl-seconds:600}") long localTtlSeconds,
+            @Value("${fcm.token-cache.redis-enabled:false}") boolean redisEnabled,
+            @Value("${fcm.token-cache.redis-ttl-seconds:3600}") long redisTtlSeconds
+    ) {
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        // 로컬 캐시 hit/miss/eviction 메트릭 (cache.gets{cache=fcmTokens, result=hit|miss} 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+        this.redisHitCounter = meterRegistry.counter("cache.redis.gets", "cache", CACHE_NAME, "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("cache.redis.gets", "cache", CACHE_NAME, "result", "miss");
+
+        // 다른 서버에서 토큰이 변경된 경우 로컬 캐시 무효화
+        cacheInvalidationBus.register(CACHE_NAME, key -> localCache.invalidate(Long.valueOf(key)));
+    }
+
+    // 회원의 토큰 목록 조회
+    public List<FCMTokenItem> get(Long memberId) {
+        return localCache.get(memberId, id -> loadAll(Set.of(id)).get(id));
+    }
+
+    // 여러 회원의 토큰 목록 조회 (캐시에 없는 회원들만 한 번에 조회)
+    public Map<Long, List<FCMTokenItem>> getAll(Collection<Long> memberIds) {
+        return localCache.getAll(memberIds, this::loadAll);
+    }
+
+    // Redis와 모든 서버의 로컬 캐시에서 회원의 토큰 목록 제거
+    public void evict(Long memberId) {
+        if (redisEnabled) {
+            redisTemplate.delete(REDIS_KEY_PREFIX + memberId);
+        }
+        localCache.invalidate(memberId);
+        cacheInvalidationBus.publish(CACHE_NAME, memberId.toString());
+    }
+
+    /*
+     * 로컬 캐시에 없는 회원들의 토큰 조회
+     * 1. Redis에서 한 번에 조회 (사용하는 경우)
+     * 2. Redis에도 없는 회원들은 DB에서 한 번에 조회 후 Redis에 저장
+     * */
+    private Map<Long, List<FCMTokenItem>> loadAll(Set<? extends Long> memberIds) {
+        Map<Long, List<FCMTokenItem>> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>(memberIds);
+
+        if (redisEnabled) {
+            misses = loadFromRedis(misses, result);
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, List<FCMTokenItem>> loaded = fcmTokenRepository.findTokenItemsByMemberIds(misses)
+                    .stream()
+                    .collect(Collectors.groupingBy(FCMTokenItem::memberId));
+
+            for (Long memberId : misses) {
+                List<FCMTokenItem> items = List.copyOf(loaded.getOrDefault(memberId, List.of()));
+                result.put(memberId, items);
+                if (redisEnabled) {
+                    saveToRedis(memberId, items);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // Redis에서 조회한 결과를 result에 담고, Redis에 없는 회원 id 목록 반환
+    private List<Long> loadFromRedis(List<Long> memberIds, Map<Long, List<FCMTokenItem>> result) {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                memberIds.stream().map(id -> REDIS_KEY_PREFIX + id).toList());
+
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            List<FCMTokenItem> items = values == null ? null : deserialize(values.get(i));
+            if (items == null) {
+                misses.add(memberIds.get(i));
+            } else {
+                result.put(memberIds.get(i), items);
+            }
+        }
+
+        redisHitCounter.increment(memberIds.size() - misses.size());
+        redisMissCounter.increment(misses.size());
+        return misses;
+    }
+
+    private void saveToRedis(Long memberId, List<FCMTokenItem> items) {
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + memberId, objectMapper.writeValueAsString(items), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize FCM tokens for member id: {}", memberId);
+        }
+    }
+
+    private List<FCMTokenItem> deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, ITEM_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize cached FCM tokens: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -2,17 +2,25 @@ package com.americanstartup.pillme.notification.application.service;
 
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.notification.domain.entity.FCMToken;
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
 import com.americanstartup.pillme.notification.presentation.request.FCMTokenRequest;
 
 import java.util.List;
+import java.util.Map;
 
 public interface FCMTokenService {
     void createToken(FCMTokenRequest request, Member loginMember);
 
     // 사용자 id로 토큰들 조회
-    List<FCMToken> findAllByMemberId(Long memberId);
+    List<FCMTokenItem> findAllByMemberId(Long memberId);
+
+    // 여러 회원의 토큰들을 한 번에 조회하여 회원 id 별로 그룹화
+    Map<Long, List<FCMTokenItem>> findAllByMemberIds(List<Long> memberIds);
 
     void deleteFCMToken(FCMToken fcmToken);
 
+    // 전송 결과 UNREGISTERED로 확인된 토큰들을 일괄 삭제
+    void deleteFCMTokens(List<Integer> tokenIds);
+
     void deleteFCMToken(String fcmToken, Member loginMember);
 }
@@ -2,16 +2,20 @@ package com.americanstartup.pillme.notification.application.service;
 
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.util.TransactionUtil;
 import com.americanstartup.pillme.notification.application.exception.FCMTokenNotFoundException;
 import com.americanstartup.pillme.notification.application.exception.InvalidFCMTokenException;
 import com.americanstartup.pillme.notification.domain.entity.FCMToken;
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
 import com.americanstartup.pillme.notification.infrastructure.repository.FCMTokenRepository;
 import com.americanstartup.pillme.notification.presentation.request.FCMTokenRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -20,6 +24,7 @@ import java.util.Optional;
 public class FCMTokenServiceImpl implements FCMTokenService {
 
     private final FCMTokenRepository fcmTokenRepository;
+    private final FCMTokenCache fcmTokenCache;
 
     /*
      * 토큰 관리 시나리오
@@ -28,6 +33,8 @@ public class FCMTokenServiceImpl implements FCMTokenService {
      *    1-2. fcm 토큰 저장
      * 2. 로그인 시에 fcm 토큰이 존재했다면 재사용
      * 3. 로그아웃 시에 fcm 토큰 삭제 요청
+     *
+     * 토큰이 변경되는 경우 커밋 이후 해당 회원의 토큰 캐시를 무효화
      * */
 
     @Override
@@ -47,6 +54,7 @@ public class FCMTokenServiceImpl implements FCMTokenService {
             }
             // 2-2. 다른 사용자의 토큰인 경우, 기존 토큰을 삭제 (한 기기에서 여러 사용자가 로그인하는 경우 처리)
             existingToken.get().delete();
+            evictAfterCommit(existingToken.get().getMember().getId());
         }
 
         // 3. 같은 토큰의 삭제된 토큰 중 현재 사용자의 토큰이 있는지 확인
@@ -58,21 +66,46 @@ public class FCMTokenServiceImpl implements FCMTokenService {
         if (deletedToken.isPresent()) {
             // 3-1. 삭제된 토큰을 활성화
             deletedToken.get().activate();
+            evictAfterCommit(loginMember.getId());
             return;
         }
 
         // 4. 새로운 토큰 저장
         fcmTokenRepository.save(FCMToken.create(loginMember, request.token()));
+        evictAfterCommit(loginMember.getId());
+    }
+
+    /*
+     * 캐시에서 조회하므로 트랜잭션을 새로 시작하지 않음 (캐시 hit에도 DB 커넥션을 사용하지 않도록 함)
+     * 캐시에 없는 경우 레포지토리 조회는 레포지토리의 읽기 전용 트랜잭션에서 실행
+     * */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<FCMTokenItem> findAllByMemberId(Long memberId) {
+        return fcmTokenCache.get(memberId);
     }
 
     @Override
-    public List<FCMToken> findAllByMemberId(Long memberId) {
-        return fcmTokenRepository.findAllByMemberIdAndDeletedIsFalse(memberId);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<Long, List<FCMTokenItem>> findAllByMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return fcmTokenCache.getAll(memberIds);
     }
 
     @Override
     public void deleteFCMToken(FCMToken fcmToken) {
         fcmToken.delete();
+        evictAfterCommit(fcmToken.getMember().getId());
+    }
+
+    @Override
+    public void deleteFCMTokens(List<Integer> tokenIds) {
+        List<Long> memberIds = fcmTokenRepository.findMemberIdsByIds(tokenIds);
+        fcmTokenRepository.softDeleteAllByIdIn(tokenIds);
+        memberIds.forEach(this::evictAfterCommit);
     }
 
     @Override
@@ -81,5 +114,11 @@ public class FCMTokenServiceImpl implements FCMTokenService {
                 .orElseThrow(() -> new FCMTokenNotFoundException(ErrorCode.FCM_TOKEN_NOT_FOUND));
 
         fcmToken.delete();
+        evictAfterCommit(loginMember.getId());
+    }
+
+    // 커밋 이후 회원의 토큰 캐시 무효화 (커밋 전에 무효화하면 이전 값이 다시 캐싱될 수 있음)
+    private void evictAfterCommit(Long memberId) {
+        TransactionUtil.runAfterCommit(() -> fcmTokenCache.evict(memberId));
     }
 }
@@ -3,12 +3,11 @@ package com.americanstartup.pillme.notification.application.service;
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.notification.application.response.NotificationResponse;
 import com.americanstartup.pillme.notification.application.response.NotificationSettingResponse;
-import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
+import com.americanstartup.pillme.notification.domain.item.ChatMemberItem;
 import com.americanstartup.pillme.notification.presentation.request.NotificationConfirmRequest;
 import com.americanstartup.pillme.notification.presentation.request.NotificationDeleteRequest;
 import com.americanstartup.pillme.notification.presentation.request.NotificationSettingRequest;
 
-import java.time.LocalTime;
 import java.util.List;
 
 public interface NotificationService {
@@ -44,11 +43,9 @@ public interface NotificationService {
 
     void deleteNotifications(NotificationDeleteRequest request, Member loginMember);
 
-    List<NotificationSetting> getNotificationSettingListForCurrentTime(LocalTime currentTime);
-
     void sendProtectorToDependentNotification(Member sender, Member receiver);
 
-    void sendChatNotification(Long chatRoomId, Member sender, Member receiver, String message, Long sendTime);
+    void sendChatNotification(Long chatRoomId, ChatMemberItem sender, ChatMemberItem receiver, String message, Long sendTime);
 
     // 처방전 등록 요청 알림
     void sendTakingInformationNotification(Member sender, Member receiver, String diseaseName);
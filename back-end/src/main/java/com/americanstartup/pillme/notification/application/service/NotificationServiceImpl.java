@@ -2,14 +2,18 @@ package com.americanstartup.pillme.notification.application.service;
 
 import com.americanstartup.pillme.auth.domain.entity.Member;
 import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.util.TransactionUtil;
 import com.americanstartup.pillme.notification.application.exception.NotificationAccessDenied;
 import com.americanstartup.pillme.notification.application.exception.NotificationRequestDuplicateException;
 import com.americanstartup.pillme.notification.application.exception.NotificationRequestNotFoundException;
 import com.americanstartup.pillme.notification.application.exception.NotificationSettingNotFoundException;
 import com.americanstartup.pillme.notification.application.response.NotificationResponse;
 import com.americanstartup.pillme.notification.application.response.NotificationSettingResponse;
+import com.americanstartup.pillme.notification.application.scheduler.NotificationTimeWheel;
 import com.americanstartup.pillme.notification.domain.entity.Notification;
 import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
+import com.americanstartup.pillme.notification.domain.item.ChatMemberItem;
+import com.americanstartup.pillme.notification.domain.item.NotificationScheduleItem;
 import com.americanstartup.pillme.notification.domain.vo.NotificationCode;
 import com.americanstartup.pillme.notification.infrastructure.repository.NotificationRepository;
 import com.americanstartup.pillme.notification.infrastructure.repository.NotificationSettingRepository;
@@ -19,7 +23,6 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalTime;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -32,13 +35,18 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationSettingRepository notificationSettingRepository;
     private final FCMNotificationService fcmNotificationService;
     private final NotificationRepository notificationRepository;
+    private final NotificationTimeWheel notificationTimeWheel;
 
     private static final String DEPENDENCY_DELETE_REQUEST_KEY = "dependency:delete:request:";
     private static final long DEPENDENCY_DELETE_REQUEST_EXPIRE = 7; // 7일
 
     @Override
     public void createNotificationSetting(NotificationSettingRequest request, Member loginMember) {
-        notificationSettingRepository.save(request.toEntity(loginMember));
+        NotificationSetting setting = notificationSettingRepository.save(request.toEntity(loginMember));
+
+        // 커밋 이후 타이밍 휠에 알림 시간 등록
+        NotificationScheduleItem item = NotificationScheduleItem.from(setting);
+        TransactionUtil.runAfterCommit(() -> notificationTimeWheel.registerAndPublish(item));
     }
 
     @Override
@@ -66,6 +74,10 @@ public class NotificationServiceImpl implements NotificationService {
                 .orElseThrow(() -> new NotificationSettingNotFoundException(ErrorCode.NOTIFICATION_SETTING_NOT_FOUND));
 
         setting.update(request);
+
+        // 커밋 이후 타이밍 휠의 알림 시간 갱신
+        NotificationScheduleItem item = NotificationScheduleItem.from(setting);
+        TransactionUtil.runAfterCommit(() -> notificationTimeWheel.registerAndPublish(item));
     }
 
     @Override
@@ -73,6 +85,10 @@ public class NotificationServiceImpl implements NotificationService {
         NotificationSetting setting = notificationSettingRepository.findByMemberId(loginMember.getId())
                 .orElseThrow(() -> new NotificationSettingNotFoundException(ErrorCode.NOTIFICATION_SETTING_NOT_FOUND));
         notificationSettingRepository.delete(setting);
+
+        // 커밋 이후 타이밍 휠에서 알림 시간 제거
+        Long memberId = loginMember.getId();
+        TransactionUtil.runAfterCommit(() -> notificationTimeWheel.removeAndPublish(memberId));
     }
 
     /*
@@ -313,12 +329,6 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    // 현재 시간에 해당하는 알림 설정 조회
-    @Override
-    public List<NotificationSetting> getNotificationSettingListForCurrentTime(LocalTime currentTime) {
-        return notificationSettingRepository.findSettingsForCurrentTime(currentTime);
-    }
-
     // 보호자가 피보호자에게 약 복용 알림 전송
     @Override
     public void sendProtectorToDependentNotification(Member sender, Member receiver) {
@@ -333,7 +343,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public void sendChatNotification(Long chatRoomId, Member sender, Member receiver, String message, Long sendTime) {
+    public void sendChatNotification(Long chatRoomId, ChatMemberItem sender, ChatMemberItem receiver, String message, Long sendTime) {
         // 채팅 알림 요청 생성
         ChatNotificationRequest request = ChatNotificationRequest.of(chatRoomId, sender, receiver, message, sendTime, NotificationCode.CHAT_MESSAGE);
 
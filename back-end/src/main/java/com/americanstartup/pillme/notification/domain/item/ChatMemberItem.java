@@ -0,0 +1,16 @@
+package com.americanstartup.pillme.notification.domain.item;
+
+import com.americanstartup.pillme.auth.domain.entity.Member;
+
+/*
+ * 채팅 알림 전송에 필요한 회원 정보
+ * WebSocket 세션 동안 보관하기 위해 엔티티 대신 필요한 값만 보관
+ * */
+public record ChatMemberItem(
+        Long id,
+        String name
+) {
+    public static ChatMemberItem from(Member member) {
+        return new ChatMemberItem(member.getId(), member.getName());
+    }
+}
@@ -0,0 +1,12 @@
+package com.americanstartup.pillme.notification.domain.item;
+
+/*
+ * 알림 전송에 필요한 FCM 토큰 정보
+ * 캐시에 보관하기 위해 엔티티 대신 필요한 값만 보관
+ * */
+public record FCMTokenItem(
+        Integer id,
+        Long memberId,
+        String token
+) {
+}
@@ -0,0 +1,26 @@
+package com.americanstartup.pillme.notification.domain.item;
+
+import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
+import java.time.LocalTime;
+
+/*
+ * 알림 타이밍 휠에 등록하기 위한 회원별 알림 시간 정보
+ * 엔티티 대신 필요한 값만 보관하여 메모리 사용량을 줄임
+ * */
+public record NotificationScheduleItem(
+        Long memberId,
+        LocalTime morning,
+        LocalTime lunch,
+        LocalTime dinner,
+        LocalTime sleep
+) {
+    public static NotificationScheduleItem from(NotificationSetting setting) {
+        return new NotificationScheduleItem(
+                setting.getMember().getId(),
+                setting.getMorning(),
+                setting.getLunch(),
+                setting.getDinner(),
+                setting.getSleep()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.americanstartup.pillme.notification.domain.item;
+
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.WebpushConfig;
+import com.google.firebase.messaging.WebpushFcmOptions;
+
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * FCM으로 전송할 메시지 한 건
+ * 재전송 큐에 그대로 저장할 수 있도록 FCM Message 대신 메시지를 만들기 위한 값만 보관
+ * messageId: 메시지마다 발급하는 id (내용이 같은 메시지도 재전송 큐에서 하나로 합쳐지지 않도록 구분, 재전송 시 유지)
+ * tokenId: 전송 실패(UNREGISTERED) 시 토큰을 삭제하기 위한 fcm_token id
+ * memberId: 토큰을 가진 회원 id (로그 기록용, 토큰은 로그에 남기지 않음)
+ * token: 전송 대상 FCM 토큰
+ * title, body: 기본 알림(notification) 메시지의 제목과 내용 (데이터 메시지인 경우 null)
+ * data: 데이터 메시지의 데이터 (기본 알림 메시지인 경우 null)
+ * attempt: 재전송 횟수 (최초 전송은 0)
+ * */
+public record PushMessage(
+        String messageId,
+        Integer tokenId,
+        Long memberId,
+        String token,
+        String title,
+        String body,
+        Map<String, String> data,
+        int attempt
+) {
+    // 서비스 홈페이지 URL
+    private static final String SERVICE_URL = "https://pillme.site";
+
+    // 복용 알림과 같이 제목/내용으로 구성되는 알림 메시지
+    public static PushMessage ofNotification(FCMTokenItem fcmToken, String title, String body) {
+        return new PushMessage(newMessageId(), fcmToken.id(), fcmToken.memberId(), fcmToken.token(), title, body, null, 0);
+    }
+
+    // 클라이언트에서 데이터로 알림을 구성하는 데이터 메시지
+    public static PushMessage ofData(FCMTokenItem fcmToken, Map<String, String> data) {
+        return new PushMessage(newMessageId(), fcmToken.id(), fcmToken.memberId(), fcmToken.token(), null, null, Map.copyOf(data), 0);
+    }
+
+    // 재전송을 위해 전송 횟수를 증가시킨 메시지
+    public PushMessage nextAttempt() {
+        return new PushMessage(messageId, tokenId, memberId, token, title, body, data, attempt + 1);
+    }
+
+    // 로그에 남길 메시지 종류 (데이터 메시지 / 기본 알림 메시지)
+    public String type() {
+        return data != null ? "data" : "notification";
+    }
+
+    private static String newMessageId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public Message toMessage() {
+        Message.Builder builder = Message.builder()
+                .setToken(token)
+                // 웹/PWA용 설정
+                .setWebpushConfig(WebpushConfig.builder()
+                        // 알림 클릭 시 이동할 URL 설정 (현재는 모두 서비스 홈 URL)
+                        .setFcmOptions(WebpushFcmOptions.builder()
+                                .setLink(SERVICE_URL)
+                                .build())
+                        .build());
+
+        if (data != null) {
+            // 전체 데이터를 메시지에 포함
+            builder.putAllData(data);
+        } else {
+            // 기본 알림 설정
+            builder.setNotification(Notification.builder()
+                    .setTitle(title)
+                    .setBody(body)
+                    .build());
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.americanstartup.pillme.notification.domain.item;
+
+/*
+ * 일괄 전송할 알림 한 건
+ * memberId: 알림을 받을 회원 id
+ * title: 알림 제목
+ * body: 알림 내용
+ * */
+public record PushNotificationItem(
+        Long memberId,
+        String title,
+        String body
+) {
+}
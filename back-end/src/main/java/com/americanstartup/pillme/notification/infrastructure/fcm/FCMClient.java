@@ -0,0 +1,19 @@
+package com.americanstartup.pillme.notification.infrastructure.fcm;
+
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * FCM 전송 클라이언트
+ * FirebaseMessaging은 final 클래스라 대체가 어려우므로 전송 부분만 인터페이스로 분리
+ * - firebase: 실제 FCM 서버로 전송 (기본값)
+ * - stub: 외부 호출 없이 전송 결과만 반환 (로컬/테스트용)
+ * */
+public interface FCMClient {
+    // 한 번의 요청으로 최대 500건의 메시지 전송, 결과는 요청 순서와 동일한 순서로 반환
+    int MAX_BATCH_SIZE = 500;
+
+    CompletableFuture<List<FCMSendResult>> sendEach(List<PushMessage> messages);
+}
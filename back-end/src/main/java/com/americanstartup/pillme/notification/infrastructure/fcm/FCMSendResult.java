@@ -0,0 +1,23 @@
+package com.americanstartup.pillme.notification.infrastructure.fcm;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/*
+ * 메시지 한 건의 전송 결과
+ * success: 전송 성공 여부
+ * errorCode: 실패 시 FCM 에러 코드 (알 수 없는 실패인 경우 null)
+ * errorMessage: 실패 시 에러 메시지
+ * */
+public record FCMSendResult(
+        boolean success,
+        MessagingErrorCode errorCode,
+        String errorMessage
+) {
+    public static FCMSendResult ofSuccess() {
+        return new FCMSendResult(true, null, null);
+    }
+
+    public static FCMSendResult ofFailure(MessagingErrorCode errorCode, String errorMessage) {
+        return new FCMSendResult(false, errorCode, errorMessage);
+    }
+}
@@ -0,0 +1,72 @@
+package com.americanstartup.pillme.notification.infrastructure.fcm;
+
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * FirebaseMessaging.sendEachAsync를 이용해 메시지를 묶음 단위로 전송하는 클라이언트
+ * */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.sender.mode", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFCMClient implements FCMClient {
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public CompletableFuture<List<FCMSendResult>> sendEach(List<PushMessage> messages) {
+        CompletableFuture<List<FCMSendResult>> future = new CompletableFuture<>();
+
+        ApiFutures.addCallback(
+                firebaseMessaging.sendEachAsync(messages.stream().map(PushMessage::toMessage).toList()),
+                new ApiFutureCallback<>() {
+                    @Override
+                    public void onSuccess(BatchResponse response) {
+                        future.complete(toResults(response));
+                    }
+
+                    // 요청 전체가 실패한 경우 모든 메시지를 같은 에러로 실패 처리
+                    @Override
+                    public void onFailure(Throwable t) {
+                        FCMSendResult failure = toFailure(t);
+                        future.complete(Collections.nCopies(messages.size(), failure));
+                    }
+                },
+                MoreExecutors.directExecutor()
+        );
+
+        return future;
+    }
+
+    private List<FCMSendResult> toResults(BatchResponse response) {
+        List<FCMSendResult> results = new ArrayList<>(response.getResponses().size());
+        for (SendResponse sendResponse : response.getResponses()) {
+            results.add(sendResponse.isSuccessful()
+                    ? FCMSendResult.ofSuccess()
+                    : toFailure(sendResponse.getException()));
+        }
+        return results;
+    }
+
+    private FCMSendResult toFailure(Throwable t) {
+        Throwable cause = t instanceof FirebaseMessagingException ? t : t.getCause();
+        if (cause instanceof FirebaseMessagingException exception) {
+            return FCMSendResult.ofFailure(exception.getMessagingErrorCode(), exception.getMessage());
+        }
+        return FCMSendResult.ofFailure(null, t.getMessage());
+    }
+}
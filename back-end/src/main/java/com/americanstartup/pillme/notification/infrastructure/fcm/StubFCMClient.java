@@ -0,0 +1,59 @@
+package com.americanstartup.pillme.notification.infrastructure.fcm;
+
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.google.firebase.messaging.MessagingErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 외부 호출 없이 전송 결과만 반환하는 로컬/테스트용 클라이언트 (fcm.sender.mode=stub)
+ * - 기본적으로 모든 메시지를 성공으로 처리
+ * - failWith로 등록한 토큰은 지정한 에러 코드로 실패 처리
+ * */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender.mode", havingValue = "stub")
+public class StubFCMClient implements FCMClient {
+
+    private final Map<String, MessagingErrorCode> failures = new ConcurrentHashMap<>();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    @Override
+    public CompletableFuture<List<FCMSendResult>> sendEach(List<PushMessage> messages) {
+        requestCount.incrementAndGet();
+        sentCount.addAndGet(messages.size());
+
+        List<FCMSendResult> results = messages.stream()
+                .map(message -> {
+                    MessagingErrorCode errorCode = failures.get(message.token());
+                    return errorCode == null
+                            ? FCMSendResult.ofSuccess()
+                            : FCMSendResult.ofFailure(errorCode, "stub failure");
+                })
+                .toList();
+
+        log.debug("Stub FCM batch sent: size={}", messages.size());
+        return CompletableFuture.completedFuture(results);
+    }
+
+    // 특정 토큰으로 전송 시 실패하도록 설정
+    public void failWith(String token, MessagingErrorCode errorCode) {
+        failures.put(token, errorCode);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+}
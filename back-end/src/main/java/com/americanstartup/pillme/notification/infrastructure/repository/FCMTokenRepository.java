@@ -1,11 +1,14 @@
 package com.americanstartup.pillme.notification.infrastructure.repository;
 
 import com.americanstartup.pillme.notification.domain.entity.FCMToken;
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +16,21 @@ import java.util.Optional;
 public interface FCMTokenRepository extends JpaRepository<FCMToken, Integer> {
     List<FCMToken> findAllByMemberIdAndDeletedIsFalse(Long memberId);
 
+    // 여러 회원의 토큰 일괄 조회 (캐시에 보관할 값만 조회)
+    @Query("SELECT new com.americanstartup.pillme.notification.domain.item.FCMTokenItem(f.id, f.member.id, f.token) " +
+            "FROM FCMToken f " +
+            "WHERE f.member.id IN :memberIds AND f.deleted = false")
+    List<FCMTokenItem> findTokenItemsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    // 토큰 id 목록으로 토큰을 가진 회원 id 조회 (캐시 무효화용)
+    @Query("SELECT DISTINCT f.member.id FROM FCMToken f WHERE f.id IN :ids")
+    List<Long> findMemberIdsByIds(@Param("ids") List<Integer> ids);
+
+    // 유효하지 않은 토큰들 일괄 삭제 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FCMToken f SET f.deleted = true WHERE f.id IN :ids AND f.deleted = false")
+    int softDeleteAllByIdIn(@Param("ids") List<Integer> ids);
+
     boolean existsByMemberIdAndTokenAndDeletedIsFalse(@Param("memberId") Long memberId, @Param("token") String token);
 
     Optional<FCMToken> findByMemberIdAndTokenAndDeletedIsFalse(@Param("memberId") Long memberId, @Param("token") String token);
@@ -1,9 +1,11 @@
 package com.americanstartup.pillme.notification.infrastructure.repository;
 
-import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
-import java.time.LocalTime;
+import com.americanstartup.pillme.notification.domain.item.NotificationScheduleItem;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationSettingRepositoryCustom {
-    List<NotificationSetting> findSettingsForCurrentTime(LocalTime currentTime);
+    List<NotificationScheduleItem> findAllScheduleItems();
+
+    Optional<NotificationScheduleItem> findScheduleItemByMemberId(Long memberId);
 }
@@ -1,15 +1,12 @@
 package com.americanstartup.pillme.notification.infrastructure.repository;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.TimePath;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.americanstartup.pillme.auth.domain.entity.QMember;
-import com.americanstartup.pillme.notification.domain.entity.NotificationSetting;
 import com.americanstartup.pillme.notification.domain.entity.QNotificationSetting;
+import com.americanstartup.pillme.notification.domain.item.NotificationScheduleItem;
 
-import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,32 +14,36 @@ import lombok.RequiredArgsConstructor;
 public class NotificationSettingRepositoryImpl implements NotificationSettingRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
+    // 타이밍 휠 구성을 위해 회원 id와 알림 시간만 조회 (회원 엔티티는 조회하지 않음)
     @Override
-    public List<NotificationSetting> findSettingsForCurrentTime(LocalTime currentTime) {
-        // QNotificationSetting : QueryDSL에서 사용할 Entity
+    public List<NotificationScheduleItem> findAllScheduleItems() {
         QNotificationSetting setting = QNotificationSetting.notificationSetting;
-        QMember member = QMember.member;
 
         return queryFactory
-                .selectFrom(setting)
-                .join(setting.member, member).fetchJoin()
-                .where(
-                        timeMatches(setting.morning, currentTime)
-                                .or(timeMatches(setting.lunch, currentTime))
-                                .or(timeMatches(setting.dinner, currentTime))
-                                .or(timeMatches(setting.sleep, currentTime))
-                )
+                .select(Projections.constructor(NotificationScheduleItem.class,
+                        setting.member.id,
+                        setting.morning,
+                        setting.lunch,
+                        setting.dinner,
+                        setting.sleep))
+                .from(setting)
                 .fetch();
     }
 
-    // 사용자에게 시간과 분에 대해서만 입력받아 알림 설정을 하기 때문에 시간과 분이 일치하는지 확인.
-    // TimePath : QueryDSL에서 시간을 다루기 위한 클래스
-    // Expressions.numberTemplate : QueryDSL의 메서드로 SQL 함수를 사용할 수 있게 함
-    // Integer.class : 반환 타입이 Integer임을 지정
-    // hour({0}) : 시간을 추출하는 SQL 함수({0}은 첫 번째 인자를 의미)
-    // timePath : {0}에 해당하는 인자
-    private BooleanExpression timeMatches(TimePath<LocalTime> timePath, LocalTime currentTime) {
-        return Expressions.numberTemplate(Integer.class, "hour({0})", timePath).eq(currentTime.getHour())
-                .and(Expressions.numberTemplate(Integer.class, "minute({0})", timePath).eq(currentTime.getMinute()));
+    // 다른 서버에서 변경된 회원의 알림 시간 조회
+    @Override
+    public Optional<NotificationScheduleItem> findScheduleItemByMemberId(Long memberId) {
+        QNotificationSetting setting = QNotificationSetting.notificationSetting;
+
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(NotificationScheduleItem.class,
+                        setting.member.id,
+                        setting.morning,
+                        setting.lunch,
+                        setting.dinner,
+                        setting.sleep))
+                .from(setting)
+                .where(setting.member.id.eq(memberId))
+                .fetchFirst());
     }
 }
@@ -0,0 +1,86 @@
+package com.americanstartup.pillme.search.application;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.search.application.response.MedicationSearchResponse;
+import com.americanstartup.pillme.search.domain.MedicationDocument;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/*
+ * 약 이름 자동완성 (서버 메모리 인덱스)
+ * - 서버 시작 시 medication 인덱스 전체를 scroll로 읽어 자동완성 인덱스를 구성
+ * - 약 목록은 거의 변경되지 않으므로 다시 색인된 경우에만 reloadAll로 모든 서버의 인덱스를 교체
+ * - 인덱스가 구성되기 전에는 빈 값을 반환하여 Elasticsearch에서 검색하도록 함
+ * */
+@Slf4j
+@Component
+public class MedicationAutocomplete {
+    private static final String CACHE_NAME = "medicationAutocomplete";
+    private static final String ALL_KEYS = "*";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MedicationSearchCache medicationSearchCache;
+
+    private volatile MedicationNameIndex index;
+
+    public MedicationAutocomplete(
+            ElasticsearchOperations elasticsearchOperations,
+            CacheInvalidationBus cacheInvalidationBus,
+            MedicationSearchCache medicationSearchCache
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.medicationSearchCache = medicationSearchCache;
+
+        // 다른 서버에서 다시 색인한 경우 자동완성 인덱스 재구성
+        cacheInvalidationBus.register(CACHE_NAME, key -> load());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 구성에 실패해도 Elasticsearch로 검색 가능
+            log.error("Failed to load medication autocomplete index: {}", e.getMessage());
+        }
+    }
+
+    // medication 인덱스 전체로 자동완성 인덱스를 다시 구성하여 교체
+    public void reload() {
+        List<MedicationSearchResponse> medications = new ArrayList<>();
+        try (SearchHitsIterator<MedicationDocument> hits =
+                     elasticsearchOperations.searchForStream(Query.findAll(), MedicationDocument.class)) {
+            hits.forEachRemaining(hit -> medications.add(MedicationSearchResponse.of(hit.getContent())));
+        }
+
+        MedicationNameIndex loaded = MedicationNameIndex.build(medications);
+        index = loaded;
+        // 교체 전 인덱스나 Elasticsearch로 검색하여 캐싱된 결과 제거
+        medicationSearchCache.evictLocal();
+        log.info("Medication autocomplete index loaded with {} medications", loaded.size());
+    }
+
+    // 모든 서버(자신 포함)의 자동완성 인덱스 재구성
+    public void reloadAll() {
+        cacheInvalidationBus.publish(CACHE_NAME, ALL_KEYS);
+    }
+
+    // 이름에 검색어가 포함된 약 조회 (인덱스가 없으면 빈 값)
+    public Optional<List<MedicationSearchResponse>> search(String keyword, int limit) {
+        MedicationNameIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(keyword, limit));
+    }
+}
@@ -0,0 +1,178 @@
+package com.americanstartup.pillme.search.application;
+
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.search.application.exception.InvalidMedicationCatalogException;
+import com.americanstartup.pillme.search.domain.MedicationDocument;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/*
+ * 약물 목록 파일(CSV, JSON) 파서
+ * - 파일 전체를 메모리에 올리지 않도록 한 건씩 읽어 consumer로 전달
+ * - CSV는 첫 줄의 헤더(id, name, company, image)로 열 순서를 결정하고, 따옴표로 감싼 값(쉼표, 줄바꿈, "" 포함)을 지원
+ * - JSON은 객체 배열 또는 한 줄에 하나의 객체(JSON Lines)
+ * - id 또는 name이 없는 항목은 건너뛰고 건너뛴 건수를 반환
+ * */
+final class MedicationCatalogParser {
+    private static final ObjectReader JSON_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(CatalogRow.class);
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    enum Format {
+        CSV, JSON;
+
+        // 파일 확장자로 형식 결정
+        static Format fromFileName(String fileName) {
+            String lowerCase = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+            if (lowerCase.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lowerCase.endsWith(".json") || lowerCase.endsWith(".jsonl") || lowerCase.endsWith(".ndjson")) {
+                return JSON;
+            }
+            throw new InvalidMedicationCatalogException(ErrorCode.INVALID_MEDICATION_CATALOG);
+        }
+    }
+
+    private MedicationCatalogParser() {
+    }
+
+    static long parse(InputStream input, Format format, Consumer<MedicationDocument> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> parseCsv(reader, consumer);
+            case JSON -> parseJson(reader, consumer);
+        };
+    }
+
+    private static long parseCsv(BufferedReader reader, Consumer<MedicationDocument> consumer) throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return 0;
+        }
+
+        List<String> columns = header.stream()
+                .map(column -> column.replace(String.valueOf(BYTE_ORDER_MARK), "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int id = columns.indexOf("id");
+        int name = columns.indexOf("name");
+        int company = columns.indexOf("company");
+        int image = columns.indexOf("image");
+        if (id < 0 || name < 0) {
+            throw new InvalidMedicationCatalogException(ErrorCode.INVALID_MEDICATION_CATALOG);
+        }
+
+        long skipped = 0;
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            // 빈 줄
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            MedicationDocument medication = toDocument(
+                    valueOf(record, id), valueOf(record, name), valueOf(record, company), valueOf(record, image));
+            if (medication == null) {
+                skipped++;
+                continue;
+            }
+            consumer.accept(medication);
+        }
+        return skipped;
+    }
+
+    private static long parseJson(BufferedReader reader, Consumer<MedicationDocument> consumer) throws IOException {
+        long skipped = 0;
+        try (MappingIterator<CatalogRow> rows = JSON_READER.readValues(reader)) {
+            while (rows.hasNextValue()) {
+                CatalogRow row = rows.nextValue();
+                MedicationDocument medication = toDocument(row.id(), row.name(), row.company(), row.image());
+                if (medication == null) {
+                    skipped++;
+                    continue;
+                }
+                consumer.accept(medication);
+            }
+        }
+        return skipped;
+    }
+
+    // CSV 한 줄(따옴표 안의 줄바꿈 포함) 읽기 (파일 끝이면 null)
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new InvalidMedicationCatalogException(ErrorCode.INVALID_MEDICATION_CATALOG);
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String valueOf(List<String> record, int column) {
+        return column >= 0 && column < record.size() ? record.get(column) : null;
+    }
+
+    private static MedicationDocument toDocument(String id, String name, String company, String image) {
+        if (isBlank(id) || isBlank(name)) {
+            return null;
+        }
+        return new MedicationDocument(id.trim(), name.trim(), emptyToNull(company), emptyToNull(image));
+    }
+
+    private static String emptyToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    record CatalogRow(String id, String name, String company, String image) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.americanstartup.pillme.search.application;
+
+import com.americanstartup.pillme.search.application.response.MedicationSearchResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+ * 약 이름 자동완성 인덱스 (서버 메모리, 생성 후 변경하지 않음)
+ * - 약 이름을 자모 단위로 분해한 키를 정렬한 배열에서 이진 탐색으로 접두어 검색
+ * - 이름 중간에 포함된 경우(예: "어린이타이레놀")는 키의 접미사를 정렬한 배열(suffix array)에서 이진 탐색
+ *   (검색어는 글자 단위로 시작하므로 원래 글자가 시작되는 위치의 접미사만 정렬)
+ * - 접두어 일치 결과를 먼저, 부족한 경우 중간 일치 결과를 이어서 반환
+ * */
+final class MedicationNameIndex {
+    // 키 사이 구분자 (자모/영문/숫자보다 작은 문자)
+    private static final char SEPARATOR = '\0';
+
+    private final MedicationSearchResponse[] medications;
+    private final String[] keys;
+    private final char[] text;
+    private final int[] keyStarts;
+    private final int[] suffixes;
+
+    private MedicationNameIndex(MedicationSearchResponse[] medications, String[] keys) {
+        this.medications = medications;
+        this.keys = keys;
+
+        StringBuilder builder = new StringBuilder();
+        List<Integer> positions = new ArrayList<>();
+        this.keyStarts = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyStarts[i] = builder.length();
+            for (char c : medications[i].name().toCharArray()) {
+                String jamo = HangulJamo.normalize(String.valueOf(c));
+                if (!jamo.isEmpty()) {
+                    positions.add(builder.length());
+                    builder.append(jamo);
+                }
+            }
+            builder.append(SEPARATOR);
+        }
+        this.text = builder.toString().toCharArray();
+
+        Integer[] sorted = positions.toArray(Integer[]::new);
+        Arrays.sort(sorted, this::compareSuffixes);
+        this.suffixes = Arrays.stream(sorted).mapToInt(Integer::intValue).toArray();
+    }
+
+    static MedicationNameIndex build(List<MedicationSearchResponse> medications) {
+        List<MedicationSearchResponse> named = medications.stream()
+                .filter(medication -> medication.name() != null && !medication.name().isBlank())
+                .sorted(Comparator.comparing((MedicationSearchResponse medication) -> HangulJamo.normalize(medication.name())))
+                .toList();
+
+        String[] keys = named.stream()
+                .map(medication -> HangulJamo.normalize(medication.name()))
+                .toArray(String[]::new);
+        return new MedicationNameIndex(named.toArray(MedicationSearchResponse[]::new), keys);
+    }
+
+    int size() {
+        return medications.length;
+    }
+
+    List<MedicationSearchResponse> search(String keyword, int limit) {
+        String query = HangulJamo.normalize(keyword);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Integer> found = new LinkedHashSet<>();
+        for (int i = lowerBound(query); i < keys.length && found.size() < limit && keys[i].startsWith(query); i++) {
+            found.add(i);
+        }
+        for (int i = suffixLowerBound(query);
+             i < suffixes.length && found.size() < limit && suffixStartsWith(suffixes[i], query); i++) {
+            found.add(ownerOf(suffixes[i]));
+        }
+
+        List<MedicationSearchResponse> results = new ArrayList<>(found.size());
+        found.forEach(index -> results.add(medications[index]));
+        return results;
+    }
+
+    // query 이상인 첫 키의 위치
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // query 이상인 첫 접미사의 위치
+    private int suffixLowerBound(String query) {
+        int low = 0;
+        int high = suffixes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareSuffix(suffixes[mid], query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 접미사가 속한 키의 위치
+    private int ownerOf(int position) {
+        int index = Arrays.binarySearch(keyStarts, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private boolean suffixStartsWith(int position, String query) {
+        if (position + query.length() > text.length) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            if (text[position + i] != query.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 접미사와 query 비교 (구분자에서 접미사가 끝남)
+    private int compareSuffix(int position, String query) {
+        for (int i = 0; i < query.length(); i++) {
+            char c = text[position + i];
+            if (c == SEPARATOR) {
+                return -1;
+            }
+            if (c != query.charAt(i)) {
+                return Character.compare(c, query.charAt(i));
+            }
+        }
+        return 0;
+    }
+
+    private int compareSuffixes(int left, int right) {
+        while (true) {
+            char a = text[left++];
+            char b = text[right++];
+            if (a != b) {
+                return Character.compare(a, b);
+            }
+            if (a == SEPARATOR) {
+                return 0;
+            }
+        }
+    }
+}
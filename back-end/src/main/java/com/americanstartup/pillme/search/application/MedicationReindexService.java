@@ -0,0 +1,280 @@
+package com.americanstartup.pillme.search.application;
+
+import com.americanstartup.pillme.auth.domain.vo.AuthenticatedMember;
+import com.americanstartup.pillme.auth.domain.vo.Role;
+import com.americanstartup.pillme.global.cluster.DistributedLock;
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.search.application.MedicationCatalogParser.Format;
+import com.americanstartup.pillme.search.application.exception.InvalidMedicationCatalogException;
+import com.americanstartup.pillme.search.application.exception.MedicationReindexException;
+import com.americanstartup.pillme.search.application.response.MedicationReindexResponse;
+import com.americanstartup.pillme.search.domain.MedicationDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+ * 약물 목록 재색인 (무중단)
+ * - 약물 목록 파일을 한 건씩 읽어 새 버전 인덱스(medication_yyyyMMddHHmmss)에 bulk API로 저장
+ *   (bulk 요청은 최대 concurrency개까지 동시에 보내고, 모두 사용 중이면 파일 읽기를 멈춤)
+ * - 새 인덱스의 분석기 설정과 매핑은 현재 medication 인덱스에서 복사
+ * - 저장이 끝나면 medication 별칭을 새 인덱스로 한 번에 교체하고 이전 인덱스는 삭제
+ *   (별칭이 아닌 medication 인덱스가 있는 경우 별칭 추가와 인덱스 삭제를 같은 요청으로 처리)
+ * - 실패 건수가 허용치를 넘으면 교체하지 않고 새 인덱스를 삭제
+ * - 교체 후 모든 서버의 검색 결과 캐시와 자동완성 인덱스를 갱신
+ * */
+@Slf4j
+@Service
+public class MedicationReindexService {
+    private static final String ALIAS = "medication";
+    private static final String LOCK_NAME = "medication:reindex";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    // 현재 인덱스에서 복사할 설정 (분석기, 샤드 수 등)
+    private static final List<String> COPIED_SETTINGS = List.of(
+            "index.analysis.",
+            "index.number_of_shards",
+            "index.number_of_replicas",
+            "index.max_ngram_diff",
+            "index.max_shingle_diff"
+    );
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final DistributedLock distributedLock;
+    private final MedicationSearchCache medicationSearchCache;
+    private final MedicationAutocomplete medicationAutocomplete;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final int batchSize;
+    private final int concurrency;
+    private final long maxFailures;
+    private final Duration lockLease;
+
+    public MedicationReindexService(
+            ElasticsearchOperations elasticsearchOperations,
+            DistributedLock distributedLock,
+            MedicationSearchCache medicationSearchCache,
+            MedicationAutocomplete medicationAutocomplete,
+            MeterRegistry meterRegistry,
+            @Value("${search.reindex.batch-size:1000}") int batchSize,
+            @Value("${search.reindex.concurrency:4}") int concurrency,
+            @Value("${search.reindex.max-failures:0}") long maxFailures,
+            @Value("${search.reindex.lock-lease-minutes:30}") long lockLeaseMinutes
+    ) {
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.distributedLock = distributedLock;
+        this.medicationSearchCache = medicationSearchCache;
+        this.medicationAutocomplete = medicationAutocomplete;
+        this.indexedCounter = meterRegistry.counter("search.reindex.documents", "result", "indexed");
+        this.failedCounter = meterRegistry.counter("search.reindex.documents", "result", "failed");
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxFailures = maxFailures;
+        this.lockLease = Duration.ofMinutes(lockLeaseMinutes);
+    }
+
+    public MedicationReindexResponse reindex(AuthenticatedMember member, MultipartFile file) {
+        if (member.role() != Role.ADMIN) {
+            throw new MedicationReindexException(ErrorCode.MEDICATION_REINDEX_FORBIDDEN);
+        }
+
+        Format format = Format.fromFileName(file.getOriginalFilename());
+        if (!distributedLock.tryLock(LOCK_NAME, lockLease)) {
+            throw new MedicationReindexException(ErrorCode.MEDICATION_REINDEX_IN_PROGRESS);
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            return reindex(input, format);
+        } catch (IOException e) {
+            log.error("Failed to read medication catalog: {}", e.getMessage());
+            throw new InvalidMedicationCatalogException(ErrorCode.INVALID_MEDICATION_CATALOG);
+        } finally {
+            distributedLock.unlock(LOCK_NAME);
+        }
+    }
+
+    private MedicationReindexResponse reindex(InputStream input, Format format) throws IOException {
+        Set<String> previousIndices = currentIndices();
+        if (previousIndices.isEmpty()) {
+            // 분석기 설정을 복사할 인덱스가 없음
+            log.error("No {} index to copy analysis settings from", ALIAS);
+            throw new MedicationReindexException(ErrorCode.MEDICATION_REINDEX_FAILED);
+        }
+
+        String indexName = ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        IndexOperations target = createIndex(indexName, previousIndices.iterator().next());
+
+        long start = System.nanoTime();
+        long skipped;
+        BulkIndexer indexer = new BulkIndexer(IndexCoordinates.of(indexName));
+        try (indexer) {
+            skipped = MedicationCatalogParser.parse(input, format, indexer);
+        } catch (IOException | RuntimeException e) {
+            // 진행 중인 bulk 요청이 모두 끝난 뒤(close) 삭제
+            target.delete();
+            throw e;
+        }
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        long indexed = indexer.indexed.get();
+        long failed = indexer.failed.get();
+        double documentsPerSecond = indexed * 1000.0 / Math.max(elapsedMillis, 1);
+        log.info("Medication catalog indexed into {}: indexed={}, failed={}, skipped={}, elapsed={}ms, {} docs/s",
+                indexName, indexed, failed, skipped, elapsedMillis, String.format("%.1f", documentsPerSecond));
+
+        if (indexed == 0 || failed > maxFailures) {
+            target.delete();
+            throw new MedicationReindexException(ErrorCode.MEDICATION_REINDEX_FAILED);
+        }
+
+        target.refresh();
+        swapAlias(indexName, previousIndices);
+
+        medicationSearchCache.evictAll();
+        medicationAutocomplete.reloadAll();
+        return new MedicationReindexResponse(indexName, indexed, failed, skipped, elapsedMillis, documentsPerSecond);
+    }
+
+    // medication 별칭이 가리키는 인덱스 (별칭이 아닌 인덱스라면 medication 자신)
+    private Set<String> currentIndices() {
+        IndexOperations current = elasticsearchOperations.indexOps(IndexCoordinates.of(ALIAS));
+        if (!current.exists()) {
+            return Set.of();
+        }
+        return current.getAliasesForIndex(ALIAS).keySet();
+    }
+
+    private IndexOperations createIndex(String indexName, String sourceIndex) {
+        IndexOperations source = elasticsearchOperations.indexOps(IndexCoordinates.of(sourceIndex));
+        Settings settings = new Settings();
+        source.getSettings().flatten().forEach((key, value) -> {
+            if (COPIED_SETTINGS.stream().anyMatch(key::startsWith)) {
+                settings.put(key, value);
+            }
+        });
+
+        IndexOperations target = elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+        target.create(settings, Document.from(source.getMapping()));
+        return target;
+    }
+
+    // 별칭 추가와 이전 인덱스의 별칭 제거를 하나의 요청으로 처리하여 검색이 끊기지 않도록 함
+    private void swapAlias(String indexName, Set<String> previousIndices) {
+        AliasActions actions = new AliasActions(new AliasAction.Add(
+                AliasActionParameters.builder().withIndices(indexName).withAliases(ALIAS).build()));
+        for (String previous : previousIndices) {
+            if (ALIAS.equals(previous)) {
+                actions.add(new AliasAction.RemoveIndex(
+                        AliasActionParameters.builder().withIndices(previous).build()));
+                continue;
+            }
+            actions.add(new AliasAction.Remove(
+                    AliasActionParameters.builder().withIndices(previous).withAliases(ALIAS).build()));
+        }
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).alias(actions);
+
+        previousIndices.stream()
+                .filter(previous -> !ALIAS.equals(previous))
+                .forEach(previous -> elasticsearchOperations.indexOps(IndexCoordinates.of(previous)).delete());
+    }
+
+    // batchSize 단위로 모아 bulk 저장 (동시에 보내는 요청은 최대 concurrency개)
+    private class BulkIndexer implements Consumer<MedicationDocument>, AutoCloseable {
+        private final IndexCoordinates index;
+        private final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        private final Semaphore inFlight = new Semaphore(concurrency);
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private List<IndexQuery> batch = new ArrayList<>(batchSize);
+
+        private BulkIndexer(IndexCoordinates index) {
+            this.index = index;
+        }
+
+        @Override
+        public void accept(MedicationDocument medication) {
+            batch.add(new IndexQueryBuilder()
+                    .withId(medication.getId())
+                    .withObject(medication)
+                    .build());
+            if (batch.size() >= batchSize) {
+                submit();
+            }
+        }
+
+        // 남은 항목을 저장하고 모든 요청이 끝날 때까지 대기
+        @Override
+        public void close() {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            inFlight.acquireUninterruptibly(concurrency);
+            executor.shutdown();
+        }
+
+        private void submit() {
+            List<IndexQuery> queries = batch;
+            batch = new ArrayList<>(batchSize);
+
+            inFlight.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        bulkIndex(queries);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        private void bulkIndex(List<IndexQuery> queries) {
+            long failures;
+            try {
+                elasticsearchOperations.bulkIndex(queries, index);
+                failures = 0;
+            } catch (BulkFailureException e) {
+                failures = e.getFailedDocuments().size();
+                log.warn("Failed to index {} of {} medications: {}", failures, queries.size(), e.getMessage());
+            } catch (RuntimeException e) {
+                failures = queries.size();
+                log.error("Failed to index {} medications: {}", failures, e.getMessage());
+            }
+
+            indexed.addAndGet(queries.size() - failures);
+            failed.addAndGet(failures);
+            indexedCounter.increment(queries.size() - failures);
+            failedCounter.increment(failures);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.americanstartup.pillme.search.application;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.search.application.response.MedicationSearchResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 약 이름 검색 결과 캐시 (서버 로컬 캐시)
+ * - 자주 검색되는 검색어의 검색 결과(자동완성 인덱스 또는 Elasticsearch)를 정규화한 검색어(자모 분해, 공백 제거) 기준으로 캐싱
+ * - 같은 검색어를 동시에 조회하면 하나의 요청만 검색하고 나머지는 그 결과를 기다림
+ * - 결과가 없는 검색어는 오타인 경우가 많고 색인 직후 바뀔 수 있으므로 empty-ttl-seconds 동안만 캐싱
+ * - medication 인덱스가 다시 색인되면 evictAll을 호출하여 모든 서버의 로컬 캐시를 무효화
+ * */
+@Component
+public class MedicationSearchCache {
+    private static final String CACHE_NAME = "medicationSearch";
+    private static final String ALL_KEYS = "*";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<String, List<MedicationSearchResponse>> localCache;
+
+    public MedicationSearchCache(
+            CacheInvalidationBus cacheInvalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${search.cache.maximum-size:10000}") long maximumSize,
+            @Value("${search.cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${search.cache.empty-ttl-seconds:60}") long emptyTtlSeconds
+    ) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ResultExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(emptyTtlSeconds)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        // 다른 서버에서 다시 색인한 경우 로컬 캐시 무효화
+        cacheInvalidationBus.register(CACHE_NAME, key -> {
+            if (ALL_KEYS.equals(key)) {
+                localCache.invalidateAll();
+            }
+        });
+    }
+
+    // 검색어의 검색 결과 조회 (캐시에 없으면 loader로 조회하여 저장)
+    public List<MedicationSearchResponse> get(String keyword, Supplier<List<MedicationSearchResponse>> loader) {
+        return localCache.get(HangulJamo.normalize(keyword), key -> List.copyOf(loader.get()));
+    }
+
+    // 모든 서버의 로컬 캐시 전체 제거
+    public void evictAll() {
+        localCache.invalidateAll();
+        cacheInvalidationBus.publish(CACHE_NAME, ALL_KEYS);
+    }
+
+    // 이 서버의 로컬 캐시 전체 제거 (자동완성 인덱스를 교체한 경우)
+    public void evictLocal() {
+        localCache.invalidateAll();
+    }
+
+    // 저장(갱신) 시점부터 결과 유무에 따라 만료 시간 지정, 조회 시에는 연장하지 않음
+    private record ResultExpiry(Duration ttl, Duration emptyTtl)
+            implements Expiry<String, List<MedicationSearchResponse>> {
+        @Override
+        public long expireAfterCreate(String key, List<MedicationSearchResponse> value, long currentTime) {
+            return (value.isEmpty() ? emptyTtl : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, List<MedicationSearchResponse> value,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, List<MedicationSearchResponse> value,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
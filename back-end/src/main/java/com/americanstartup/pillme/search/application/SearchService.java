@@ -2,20 +2,60 @@ package com.americanstartup.pillme.search.application;
 
 import com.americanstartup.pillme.search.application.response.MedicationSearchResponse;
 import com.americanstartup.pillme.search.infrastructure.MedicationElasticRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+/*
+ * 약 이름 검색
+ * - 서버 메모리의 자동완성 인덱스에서 먼저 검색하고, 결과가 없는 경우(오타 등)에만 Elasticsearch로 검색
+ * - 검색 결과는 출처와 관계없이 검색어별로 캐싱하여 같은 검색어가 반복되면 다시 검색하지 않음
+ *   (search.medication 메트릭은 캐시에 없어 실제로 검색한 경우만 집계)
+ * */
 @Service
-@RequiredArgsConstructor
 public class SearchService {
+    private static final int SEARCH_SIZE = 10;
+
     private final MedicationElasticRepository medicationElasticRepository;
+    private final MedicationAutocomplete medicationAutocomplete;
+    private final MedicationSearchCache medicationSearchCache;
+    private final Counter autocompleteCounter;
+    private final Counter elasticsearchCounter;
+
+    public SearchService(
+            MedicationElasticRepository medicationElasticRepository,
+            MedicationAutocomplete medicationAutocomplete,
+            MedicationSearchCache medicationSearchCache,
+            MeterRegistry meterRegistry
+    ) {
+        this.medicationElasticRepository = medicationElasticRepository;
+        this.medicationAutocomplete = medicationAutocomplete;
+        this.medicationSearchCache = medicationSearchCache;
+        this.autocompleteCounter = meterRegistry.counter("search.medication", "source", "autocomplete");
+        this.elasticsearchCounter = meterRegistry.counter("search.medication", "source", "elasticsearch");
+    }
 
     public List<MedicationSearchResponse> searchMedication(String keyword) {
-        Pageable pageable = PageRequest.of(0, 10);
+        return medicationSearchCache.get(keyword, () -> search(keyword));
+    }
+
+    private List<MedicationSearchResponse> search(String keyword) {
+        Optional<List<MedicationSearchResponse>> autocompleted = medicationAutocomplete.search(keyword, SEARCH_SIZE);
+        if (autocompleted.isPresent() && !autocompleted.get().isEmpty()) {
+            autocompleteCounter.increment();
+            return autocompleted.get();
+        }
+        return searchElastic(keyword);
+    }
+
+    private List<MedicationSearchResponse> searchElastic(String keyword) {
+        elasticsearchCounter.increment();
+        Pageable pageable = PageRequest.of(0, SEARCH_SIZE);
         return medicationElasticRepository.findByName(keyword, pageable)
                 .stream().map(MedicationSearchResponse::of).collect(Collectors.toList());
     }
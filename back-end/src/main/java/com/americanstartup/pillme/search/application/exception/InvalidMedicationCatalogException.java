@@ -0,0 +1,10 @@
+package com.americanstartup.pillme.search.application.exception;
+
+import com.americanstartup.pillme.global.code.ErrorCode;
+import com.americanstartup.pillme.global.exception.CommonException;
+
+public class InvalidMedicationCatalogException extends CommonException {
+    public InvalidMedicationCatalogException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
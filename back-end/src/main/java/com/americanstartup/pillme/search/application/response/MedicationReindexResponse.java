@@ -0,0 +1,11 @@
+package com.americanstartup.pillme.search.application.response;
+
+public record MedicationReindexResponse(
+        String indexName,
+        long indexed,
+        long failed,
+        long skipped,
+        long elapsedMillis,
+        double documentsPerSecond
+) {
+}
@@ -1,13 +1,17 @@
 package com.americanstartup.pillme.search.domain;
 
 import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 @Document(indexName = "medication")
 @ToString
 public class MedicationDocument {
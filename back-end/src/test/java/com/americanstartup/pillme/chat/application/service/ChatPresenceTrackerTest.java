@@ -0,0 +1,92 @@
+package com.americanstartup.pillme.chat.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.americanstartup.pillme.chat.application.service.ChatPresenceService.PresenceEntry;
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+class ChatPresenceTrackerTest {
+    private static final Long CHAT_ROOM_ID = 10L;
+    private static final Long MEMBER_ID = 1L;
+
+    private final ChatPresenceService chatPresenceService = mock(ChatPresenceService.class);
+    private final CacheInvalidationBus cacheInvalidationBus = mock(CacheInvalidationBus.class);
+    private final ChatPresenceTracker tracker = new ChatPresenceTracker(chatPresenceService, cacheInvalidationBus);
+
+    // 발행한 메세지를 등록된 처리기로 바로 전달 (모든 서버에 전파되는 것처럼 동작)
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        Map<String, Consumer<String>> handlers = new HashMap<>();
+        doAnswer(invocation -> handlers.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cacheInvalidationBus).register(anyString(), any(Consumer.class));
+        doAnswer(invocation -> {
+            handlers.get((String) invocation.getArgument(0)).accept(invocation.getArgument(1));
+            return null;
+        }).when(cacheInvalidationBus).publish(anyString(), anyString());
+        tracker.subscribe();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void heartbeatAfterLeaveDoesNotRestorePresence() {
+        tracker.onSubscribe(subscribeEvent("session-1", "sub-1", CHAT_ROOM_ID));
+        tracker.onSubscribe(subscribeEvent("session-1", "sub-2", 20L));
+
+        tracker.leaveAll(CHAT_ROOM_ID, MEMBER_ID);
+        tracker.heartbeat();
+
+        verify(chatPresenceService).leaveAll(CHAT_ROOM_ID, MEMBER_ID);
+        verify(chatPresenceService).leave(CHAT_ROOM_ID, MEMBER_ID, "session-1");
+
+        ArgumentCaptor<Collection<PresenceEntry>> entries = ArgumentCaptor.forClass(Collection.class);
+        verify(chatPresenceService).refresh(entries.capture());
+        assertThat(entries.getValue()).containsExactly(new PresenceEntry(20L, MEMBER_ID, "session-1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leaveKeepsOtherMembersPresence() {
+        tracker.onSubscribe(subscribeEvent("session-2", "sub-1", CHAT_ROOM_ID, 2L));
+
+        tracker.leaveAll(CHAT_ROOM_ID, MEMBER_ID);
+        tracker.heartbeat();
+
+        ArgumentCaptor<Collection<PresenceEntry>> entries = ArgumentCaptor.forClass(Collection.class);
+        verify(chatPresenceService).refresh(entries.capture());
+        assertThat(entries.getValue()).containsExactly(new PresenceEntry(CHAT_ROOM_ID, 2L, "session-2"));
+        verify(chatPresenceService, never()).leave(eq(CHAT_ROOM_ID), eq(2L), anyString());
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, Long chatRoomId) {
+        return subscribeEvent(sessionId, subscriptionId, chatRoomId, MEMBER_ID);
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String sessionId, String subscriptionId, Long chatRoomId, Long memberId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/subscribe/chat." + chatRoomId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message, memberId::toString);
+    }
+}
@@ -0,0 +1,32 @@
+package com.americanstartup.pillme.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.americanstartup.pillme.auth.util.TokenDigest;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void containsEveryInsertedHash() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+
+        IntStream.range(0, 1000).forEach(i -> filter.put(TokenDigest.hash("token-" + i)));
+
+        assertThat(IntStream.range(0, 1000)
+                .allMatch(i -> filter.mightContain(TokenDigest.hash("token-" + i)))).isTrue();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put(TokenDigest.hash("token-" + i)));
+
+        long falsePositives = IntStream.range(0, 10000)
+                .filter(i -> filter.mightContain(TokenDigest.hash("other-" + i)))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,170 @@
+package com.americanstartup.pillme.management.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.americanstartup.pillme.management.domain.item.PrescriptionImageItem;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class PrescriptionImageProcessorTest {
+    private static final Logger log = LoggerFactory.getLogger(PrescriptionImageProcessorTest.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PrescriptionImageProcessor processor =
+            new PrescriptionImageProcessor(meterRegistry, true, 2048, true, "jpeg", 0.85f);
+
+    @Test
+    void 긴_변을_줄이고_흑백_JPEG로_변환한다() throws IOException {
+        byte[] photo = photo(4032, 3024);
+
+        PrescriptionImageItem processed = processor.process(new PrescriptionImageItem(photo, "처방전.png", "image/png"));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(processed.content()));
+
+        assertThat(processed.content().length).isLessThan(photo.length);
+        assertThat(processed.filename()).isEqualTo("처방전.jpg");
+        assertThat(processed.contentType()).isEqualTo("image/jpeg");
+        assertThat(image.getWidth()).isEqualTo(2048);
+        assertThat(image.getHeight()).isEqualTo(1536);
+        assertThat(image.getColorModel().getNumComponents()).isEqualTo(1);
+        assertThat(meterRegistry.get("prescription.image.bytes").tag("stage", "in").summary().totalAmount())
+                .isEqualTo(photo.length);
+    }
+
+    @Test
+    void EXIF_방향에_맞게_회전한다() throws IOException {
+        byte[] photo = withOrientation(jpeg(photo(3000, 1000)), 6);
+
+        PrescriptionImageItem processed = processor.process(new PrescriptionImageItem(photo, "처방전.jpg", "image/jpeg"));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(processed.content()));
+
+        assertThat(PrescriptionImageProcessor.exifOrientation(photo)).isEqualTo(6);
+        assertThat(image.getWidth()).isEqualTo(683);
+        assertThat(image.getHeight()).isEqualTo(2048);
+    }
+
+    @Test
+    void 읽을_수_없는_이미지는_원본을_사용한다() {
+        byte[] content = "not an image".getBytes();
+
+        PrescriptionImageItem processed = processor.process(new PrescriptionImageItem(content, "처방전.heic", null));
+
+        assertThat(processed.content()).isSameAs(content);
+        assertThat(processed.filename()).isEqualTo("처방전.heic");
+    }
+
+    @Test
+    void 투명한_부분은_흰색으로_변환한다() throws IOException {
+        byte[] photo = halfTransparent(3000, 2000);
+
+        PrescriptionImageItem processed = processor.process(new PrescriptionImageItem(photo, "처방전.png", "image/png"));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(processed.content()));
+
+        assertThat(processed.contentType()).isEqualTo("image/jpeg");
+        assertThat(image.getRaster().getSample(image.getWidth() * 3 / 4, image.getHeight() / 2, 0)).isGreaterThan(240);
+    }
+
+    /*
+     * 휴대폰 사진 크기의 이미지 전처리 시간과 크기 변화 측정
+     * 일반 테스트에서는 제외하고 ./gradlew benchmark로 실행, 처리 시간은 prescription.image.process 타이머로 확인
+     * */
+    @Test
+    @Tag("benchmark")
+    void benchmark() throws IOException {
+        byte[] photo = jpeg(photo(4032, 3024));
+        PrescriptionImageItem image = new PrescriptionImageItem(photo, "처방전.jpg", "image/jpeg");
+        processor.process(image);
+
+        int iterations = 5;
+        PrescriptionImageItem processed = null;
+        for (int i = 0; i < iterations; i++) {
+            processed = processor.process(image);
+        }
+
+        Timer timer = meterRegistry.get("prescription.image.process").timer();
+        log.info("prescription image: {} bytes -> {} bytes, {} ms/op",
+                photo.length, processed.content().length, Math.round(timer.mean(TimeUnit.MILLISECONDS)));
+        assertThat(processed.content().length).isLessThan(photo.length);
+    }
+
+    // 글자와 잡음이 있는 처방전 사진과 비슷한 PNG
+    private byte[] photo(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = 200 + random.nextInt(40);
+                image.setRGB(x, y, new Color(noise, noise - 10, noise - 20).getRGB());
+            }
+        }
+
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, height / 40));
+        for (int line = 1; line < 30; line++) {
+            graphics.drawString("Tylenol 500mg 1T tid x 3days " + line, width / 20, line * height / 30);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    // 왼쪽 절반은 잡음이 있는 불투명한 영역, 오른쪽 절반은 투명한 PNG
+    private byte[] halfTransparent(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(1);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width / 2; x++) {
+                int noise = 200 + random.nextInt(40);
+                image.setRGB(x, y, new Color(noise, noise, noise).getRGB());
+            }
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private byte[] jpeg(byte[] png) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(ImageIO.read(new ByteArrayInputStream(png)), "jpeg", output);
+        return output.toByteArray();
+    }
+
+    // SOI 바로 뒤에 방향 태그만 있는 EXIF(APP1) 세그먼트 추가
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int length = exif.length + 2;
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.write(0xFF);
+        output.write(0xE1);
+        output.write(length >> 8);
+        output.write(length & 0xFF);
+        output.write(exif, 0, exif.length);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+}
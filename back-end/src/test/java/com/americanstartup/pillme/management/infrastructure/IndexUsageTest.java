@@ -0,0 +1,90 @@
+package com.americanstartup.pillme.management.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.americanstartup.pillme.global.entity.QuerydslConfig;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/*
+ * 엔티티에 선언한 인덱스로 H2 스키마를 만들고, 레포지토리 메서드가 실제로 생성한 SQL이 인덱스를 타는지 EXPLAIN 결과로 확인
+ * Hibernate StatementInspector로 실행된 SQL을 수집한 뒤 같은 파라미터로 EXPLAIN 실행
+ * */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.americanstartup.pillme.management.infrastructure.IndexUsageTest$CapturingStatementInspector")
+@Import(QuerydslConfig.class)
+class IndexUsageTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InformationRepository informationRepository;
+
+    @Autowired
+    private ManagementRepository managementRepository;
+
+    @BeforeEach
+    void clear() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void 월별_처방_조회는_reader_인덱스를_사용한다() {
+        LocalDate monthStart = LocalDate.of(2025, 1, 1);
+        LocalDate monthEnd = LocalDate.of(2025, 1, 31);
+        informationRepository.findAllByDate(3L, monthStart, monthEnd);
+
+        String plan = explainLastStatement(3L, monthStart, monthEnd, monthStart, monthEnd);
+
+        assertThat(plan).contains("IDX_INFORMATION_READER_PERIOD");
+        assertThat(plan).doesNotContain("DATE_FORMAT");
+    }
+
+    @Test
+    void 오늘_복약_조회는_reader와_information_인덱스를_사용한다() {
+        managementRepository.findManagementsByInformationDateAndReaderIdInFetch(List.of(1L, 2L));
+
+        String plan = explainLastStatement(1L, 2L);
+
+        assertThat(plan).contains("IDX_INFORMATION_READER_PERIOD");
+        assertThat(plan).contains("IDX_MANAGEMENT_INFORMATION");
+    }
+
+    @Test
+    void 처방별_약_조회는_information_인덱스를_사용한다() {
+        managementRepository.findManagementsByInformationIdAndReaderIdFetch(1L, 1L);
+
+        String plan = explainLastStatement(1L, 1L);
+
+        assertThat(plan).contains("IDX_MANAGEMENT_INFORMATION");
+    }
+
+    // 마지막으로 실행된 SELECT 문을 같은 파라미터(SQL에 나오는 순서)로 EXPLAIN
+    private String explainLastStatement(Object... parameters) {
+        List<String> selects = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects).isNotEmpty();
+
+        String sql = selects.get(selects.size() - 1);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters).toUpperCase();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -17,7 +17,8 @@ class InformationRepositoryTest {
     void informationYearAndMonthFetchTest() {
         List<Information> informationList = informationRepository
                 .findAllByDate(3L,
-                        LocalDate.of(2025, 1, 1)
+                        LocalDate.of(2025, 1, 1),
+                        LocalDate.of(2025, 1, 31)
                 );
 
         for (Information information : informationList) {
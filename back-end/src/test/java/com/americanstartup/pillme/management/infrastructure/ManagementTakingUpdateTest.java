@@ -0,0 +1,75 @@
+package com.americanstartup.pillme.management.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.americanstartup.pillme.auth.domain.entity.Member;
+import com.americanstartup.pillme.auth.domain.vo.Provider;
+import com.americanstartup.pillme.auth.domain.vo.Role;
+import com.americanstartup.pillme.global.entity.JpaAuditingConfig;
+import com.americanstartup.pillme.global.entity.QuerydslConfig;
+import com.americanstartup.pillme.management.domain.Information;
+import com.americanstartup.pillme.management.domain.Management;
+import com.americanstartup.pillme.management.domain.type.TakingType;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+// 복용 여부 일괄 변경이 읽는 사람의 복약 정보만 변경하는지 확인
+@DataJpaTest
+@Import({QuerydslConfig.class, JpaAuditingConfig.class})
+class ManagementTakingUpdateTest {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ManagementRepository managementRepository;
+
+    @Test
+    void 다른_사람의_복약_정보는_변경하지_않는다() {
+        Member reader = persistMember("reader");
+        Member other = persistMember("other");
+        Management own = persistManagement(reader);
+        Management others = persistManagement(other);
+
+        long otherUpdated = managementRepository
+                .updateTaking(reader.getId(), List.of(others.getId()), TakingType.MORNING, true);
+        long ownUpdated = managementRepository
+                .updateTaking(reader.getId(), List.of(own.getId()), TakingType.MORNING, true);
+        entityManager.clear();
+
+        assertThat(otherUpdated).isZero();
+        assertThat(ownUpdated).isEqualTo(1);
+        assertThat(entityManager.find(Management.class, others.getId()).isMorningTaking()).isFalse();
+        assertThat(entityManager.find(Management.class, own.getId()).isMorningTaking()).isTrue();
+    }
+
+    private Member persistMember(String name) {
+        return entityManager.persist(Member.builder()
+                .email(name + "@pillme.site")
+                .password("password")
+                .name(name)
+                .nickname(name)
+                .role(Role.USER)
+                .provider(Provider.FORM)
+                .build());
+    }
+
+    private Management persistManagement(Member reader) {
+        Information information = entityManager.persist(Information.builder()
+                .reader(reader)
+                .writer(reader)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .build());
+
+        return entityManager.persistAndFlush(Management.builder()
+                .medicationName("타이레놀")
+                .information(information)
+                .morning(true)
+                .build());
+    }
+}
@@ -0,0 +1,46 @@
+package com.americanstartup.pillme.notification.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.americanstartup.pillme.global.cache.CacheInvalidationBus;
+import com.americanstartup.pillme.notification.domain.item.NotificationScheduleItem;
+import com.americanstartup.pillme.notification.domain.vo.NotificationTimeType;
+import com.americanstartup.pillme.notification.infrastructure.repository.NotificationSettingRepository;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NotificationTimeWheelTest {
+    private static final LocalTime MORNING = LocalTime.of(8, 0);
+
+    private final NotificationSettingRepository repository = mock(NotificationSettingRepository.class);
+    private final NotificationTimeWheel wheel = new NotificationTimeWheel(repository, mock(CacheInvalidationBus.class));
+
+    @Test
+    void rebuildRestoresMissedChanges() {
+        when(repository.findAllScheduleItems()).thenReturn(List.of(item(1L, MORNING), item(2L, MORNING)));
+        wheel.rebuild();
+
+        // 다른 서버의 변경 메시지가 유실되어 회원 1은 삭제, 회원 3은 추가, 회원 2는 시간이 바뀐 상태
+        when(repository.findAllScheduleItems()).thenReturn(List.of(item(2L, LocalTime.of(9, 0)), item(3L, MORNING)));
+        wheel.rebuild();
+
+        assertThat(wheel.findDueMembers(MORNING)).containsOnlyKeys(3L);
+        assertThat(wheel.findDueMembers(LocalTime.of(9, 0))).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void rebuildKeepsUnchangedMembers() {
+        when(repository.findAllScheduleItems()).thenReturn(List.of(item(1L, MORNING)));
+        wheel.rebuild();
+        wheel.rebuild();
+
+        assertThat(wheel.findDueMembers(MORNING)).containsEntry(1L, NotificationTimeType.MORNING);
+    }
+
+    private NotificationScheduleItem item(Long memberId, LocalTime morning) {
+        return new NotificationScheduleItem(memberId, morning, null, null, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.americanstartup.pillme.notification.application.sender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.americanstartup.pillme.notification.application.service.FCMTokenService;
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.americanstartup.pillme.notification.infrastructure.fcm.StubFCMClient;
+import com.google.firebase.messaging.MessagingErrorCode;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FCMBatchSenderTest {
+
+    @Test
+    void sendInBatchesOf500() {
+        StubFCMClient client = new StubFCMClient();
+        FCMTokenService tokenService = mock(FCMTokenService.class);
+        FCMRetryQueue retryQueue = mock(FCMRetryQueue.class);
+        FCMBatchSender sender = new FCMBatchSender(client, tokenService, retryQueue, 2);
+
+        sender.send(createMessages(1201));
+
+        assertThat(client.getRequestCount()).isEqualTo(3);
+        assertThat(client.getSentCount()).isEqualTo(1201);
+        verify(tokenService, never()).deleteFCMTokens(anyList());
+        verify(retryQueue, never()).schedule(anyList());
+    }
+
+    @Test
+    void deleteUnregisteredTokensAndRetryUnavailable() {
+        StubFCMClient client = new StubFCMClient();
+        client.failWith("token-3", MessagingErrorCode.UNREGISTERED);
+        client.failWith("token-7", MessagingErrorCode.UNREGISTERED);
+        client.failWith("token-8", MessagingErrorCode.UNAVAILABLE);
+        FCMTokenService tokenService = mock(FCMTokenService.class);
+        FCMRetryQueue retryQueue = mock(FCMRetryQueue.class);
+        FCMBatchSender sender = new FCMBatchSender(client, tokenService, retryQueue, 2);
+
+        List<PushMessage> messages = createMessages(10);
+        sender.send(messages);
+
+        verify(tokenService).deleteFCMTokens(List.of(3, 7));
+        verify(retryQueue).schedule(List.of(messages.get(8)));
+    }
+
+    private List<PushMessage> createMessages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new PushMessage("message-" + i, i, (long) i, "token-" + i, "title", "body", null, 0))
+                .toList();
+    }
+}
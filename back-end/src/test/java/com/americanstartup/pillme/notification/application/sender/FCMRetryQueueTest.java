@@ -0,0 +1,45 @@
+package com.americanstartup.pillme.notification.application.sender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.americanstartup.pillme.notification.domain.item.FCMTokenItem;
+import com.americanstartup.pillme.notification.domain.item.PushMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class FCMRetryQueueTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepSamePayloadRetriesAsSeparateMembers() throws Exception {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        ObjectMapper objectMapper = new ObjectMapper();
+        FCMRetryQueue retryQueue = new FCMRetryQueue(redisTemplate, objectMapper, 2000, 300000, 5);
+
+        FCMTokenItem token = new FCMTokenItem(1, 1L, "token-1");
+        retryQueue.schedule(List.of(
+                PushMessage.ofNotification(token, "title", "body"),
+                PushMessage.ofNotification(token, "title", "body")
+        ));
+
+        ArgumentCaptor<String> members = ArgumentCaptor.forClass(String.class);
+        verify(zSetOperations, times(2)).add(eq("fcm:retry:queue"), members.capture(), anyDouble());
+        assertThat(members.getAllValues()).doesNotHaveDuplicates();
+
+        PushMessage retried = objectMapper.readValue(members.getAllValues().get(0), PushMessage.class);
+        assertThat(retried.attempt()).isEqualTo(1);
+        assertThat(retried.nextAttempt().messageId()).isEqualTo(retried.messageId());
+    }
+}
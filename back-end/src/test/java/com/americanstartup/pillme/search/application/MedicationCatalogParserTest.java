@@ -0,0 +1,84 @@
+package com.americanstartup.pillme.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.americanstartup.pillme.search.application.MedicationCatalogParser.Format;
+import com.americanstartup.pillme.search.application.exception.InvalidMedicationCatalogException;
+import com.americanstartup.pillme.search.domain.MedicationDocument;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MedicationCatalogParserTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void CSV_파일을_헤더_순서대로_읽는다() throws IOException {
+        Path file = directory.resolve("catalog.csv");
+        Files.writeString(file, """
+                \uFEFFname,id,company,image
+                타이레놀정500밀리그람,1,한국얀센,https://image/1.png
+                "어린이타이레놀현탁액, 100ml",2,"한국""얀센\""",
+                "줄바꿈
+                포함",3,,
+                ,4,이름없음,
+                """);
+
+        List<MedicationDocument> medications = new ArrayList<>();
+        long skipped;
+        try (InputStream input = Files.newInputStream(file)) {
+            skipped = MedicationCatalogParser.parse(input, Format.fromFileName(file.toString()), medications::add);
+        }
+
+        assertThat(skipped).isEqualTo(1);
+        assertThat(medications).extracting(MedicationDocument::getId).containsExactly("1", "2", "3");
+        assertThat(medications).extracting(MedicationDocument::getName)
+                .containsExactly("타이레놀정500밀리그람", "어린이타이레놀현탁액, 100ml", "줄바꿈\n포함");
+        assertThat(medications).extracting(MedicationDocument::getCompany)
+                .containsExactly("한국얀센", "한국\"얀센\"", null);
+        assertThat(medications.get(0).getImage()).isEqualTo("https://image/1.png");
+    }
+
+    @Test
+    void JSON_배열과_JSON_Lines를_읽는다() throws IOException {
+        String array = """
+                [{"id": 1, "name": "오메가3", "company": "종근당", "extra": true}, {"id": "2"}]
+                """;
+        String lines = """
+                {"id": "1", "name": "오메가3"}
+                {"id": "2", "name": "아스피린프로텍트정100밀리그램"}
+                """;
+
+        List<MedicationDocument> fromArray = new ArrayList<>();
+        List<MedicationDocument> fromLines = new ArrayList<>();
+
+        assertThat(MedicationCatalogParser.parse(stream(array), Format.JSON, fromArray::add)).isEqualTo(1);
+        assertThat(MedicationCatalogParser.parse(stream(lines), Format.JSON, fromLines::add)).isZero();
+        assertThat(fromArray).extracting(MedicationDocument::getName).containsExactly("오메가3");
+        assertThat(fromLines).extracting(MedicationDocument::getName)
+                .containsExactly("오메가3", "아스피린프로텍트정100밀리그램");
+    }
+
+    @Test
+    void 읽을_수_없는_파일은_예외가_발생한다() {
+        assertThatThrownBy(() -> Format.fromFileName("catalog.xlsx"))
+                .isInstanceOf(InvalidMedicationCatalogException.class);
+        assertThatThrownBy(() -> MedicationCatalogParser.parse(stream("code,title\n1,오메가3\n"), Format.CSV, m -> {
+        })).isInstanceOf(InvalidMedicationCatalogException.class);
+        assertThatThrownBy(() -> MedicationCatalogParser.parse(stream("id,name\n1,\"오메가3\n"), Format.CSV, m -> {
+        })).isInstanceOf(InvalidMedicationCatalogException.class);
+    }
+
+    private InputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
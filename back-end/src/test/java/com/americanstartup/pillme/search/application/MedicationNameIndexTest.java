@@ -0,0 +1,49 @@
+package com.americanstartup.pillme.search.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.americanstartup.pillme.search.application.response.MedicationSearchResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MedicationNameIndexTest {
+    private final MedicationNameIndex index = MedicationNameIndex.build(List.of(
+            medication("타이레놀정500밀리그람"),
+            medication("타이레놀8시간이알서방정"),
+            medication("어린이타이레놀현탁액"),
+            medication("아스피린프로텍트정100밀리그램"),
+            medication("오메가3")
+    ));
+
+    @Test
+    void 접두어가_일치하는_약을_먼저_반환한다() {
+        assertThat(names(index.search("타이레놀", 10)))
+                .containsExactly("타이레놀8시간이알서방정", "타이레놀정500밀리그람", "어린이타이레놀현탁액");
+    }
+
+    @Test
+    void 입력_중인_글자도_자모_단위로_일치한다() {
+        assertThat(names(index.search("탕", 10))).contains("타이레놀정500밀리그람", "어린이타이레놀현탁액");
+        assertThat(names(index.search("ㅇㅗ", 10))).containsExactly("오메가3");
+    }
+
+    @Test
+    void 이름_중간에_포함된_약도_반환한다() {
+        assertThat(names(index.search("프로텍트", 10))).containsExactly("아스피린프로텍트정100밀리그램");
+    }
+
+    @Test
+    void 결과_수를_제한하고_없는_경우_빈_목록을_반환한다() {
+        assertThat(index.search("타이", 1)).hasSize(1);
+        assertThat(index.search("게보린", 10)).isEmpty();
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    private MedicationSearchResponse medication(String name) {
+        return new MedicationSearchResponse(name, "제약사", null);
+    }
+
+    private List<String> names(List<MedicationSearchResponse> medications) {
+        return medications.stream().map(MedicationSearchResponse::name).toList();
+    }
+}